@@ -0,0 +1,118 @@
+package kr.ac.jbnu.cr.bookstore.dto.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.ac.jbnu.cr.bookstore.model.Book;
+import kr.ac.jbnu.cr.bookstore.model.Cart;
+import kr.ac.jbnu.cr.bookstore.model.CartItem;
+import kr.ac.jbnu.cr.bookstore.model.Category;
+import kr.ac.jbnu.cr.bookstore.model.Review;
+import kr.ac.jbnu.cr.bookstore.model.ReviewLike;
+import kr.ac.jbnu.cr.bookstore.model.User;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Detached entities shaped like what the repositories return, with associations loaded
+ */
+final class BenchmarkFixtures {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 12, 1, 10, 30);
+    private static final List<Category> CATEGORIES = List.of(
+            category(1L, "Fiction"), category(2L, "Science"), category(3L, "History"));
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Configured like the application's mapper: Java time support, ISO dates
+     */
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    static List<Book> books(int count) {
+        List<Book> books = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            books.add(book(i));
+        }
+        return books;
+    }
+
+    static List<Review> reviews(int count) {
+        Book book = book(0);
+        List<Review> reviews = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Review review = Review.builder()
+                    .id((long) i)
+                    .user(user(i))
+                    .book(book)
+                    .rating(1 + i % 5)
+                    .comment("A thoughtful review of the book, number " + i + ", with a few sentences of text.")
+                    .createdAt(CREATED_AT)
+                    .updatedAt(CREATED_AT)
+                    .build();
+            for (int like = 0; like < i % 4; like++) {
+                review.getLikes().add(ReviewLike.builder().id((long) like).review(review).user(user(like)).build());
+            }
+            reviews.add(review);
+        }
+        return reviews;
+    }
+
+    static Cart cart(int itemCount) {
+        Cart cart = Cart.builder().id(1L).user(user(1)).updatedAt(CREATED_AT).build();
+        for (int i = 0; i < itemCount; i++) {
+            cart.getItems().add(CartItem.builder()
+                    .id((long) i)
+                    .cart(cart)
+                    .book(book(i))
+                    .quantity(1 + i % 3)
+                    .build());
+        }
+        return cart;
+    }
+
+    private static Book book(int i) {
+        Book book = Book.builder()
+                .id((long) i)
+                .title("Book Title " + i)
+                .author("Author " + i % 50)
+                .publisher("Publisher " + i % 10)
+                .summary("Summary of book " + i + ". A paragraph long enough to resemble a real blurb on a listing page.")
+                .isbn(String.format("978%010d", i))
+                .price(new BigDecimal("12.90").add(BigDecimal.valueOf(i % 20)))
+                .publicationDate(LocalDate.of(2020, 1 + i % 12, 1 + i % 28))
+                .stockQuantity(100 - i % 100)
+                .viewCount((long) i * 7)
+                .createdAt(CREATED_AT)
+                .updatedAt(CREATED_AT)
+                .build();
+        book.getCategories().add(CATEGORIES.get(i % CATEGORIES.size()));
+        book.getCategories().add(CATEGORIES.get((i + 1) % CATEGORIES.size()));
+        return book;
+    }
+
+    private static User user(int i) {
+        return User.builder()
+                .id((long) i)
+                .email("reader" + i + "@example.com")
+                .username("reader" + i)
+                .passwordHash("hash")
+                .build();
+    }
+
+    private static Category category(Long id, String name) {
+        return Category.builder()
+                .id(id)
+                .name(name)
+                .description(name + " books")
+                .createdAt(CREATED_AT)
+                .updatedAt(CREATED_AT)
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package kr.ac.jbnu.cr.bookstore.dto.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.ac.jbnu.cr.bookstore.model.Book;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A page of book listings as BookController builds it, with rating and review count
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookResponseBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private List<Book> books;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        books = BenchmarkFixtures.books(pageSize);
+        objectMapper = BenchmarkFixtures.objectMapper();
+    }
+
+    @Benchmark
+    public List<BookResponse> map() {
+        return books.stream()
+                .map(book -> BookResponse.from(book, 4.2, 17L))
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(map());
+    }
+}
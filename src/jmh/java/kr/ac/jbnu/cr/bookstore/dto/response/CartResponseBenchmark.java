@@ -0,0 +1,46 @@
+package kr.ac.jbnu.cr.bookstore.dto.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.ac.jbnu.cr.bookstore.model.Cart;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cart mapping, dominated by the per-item subtotal multiply and the BigDecimal total reduction
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CartResponseBenchmark {
+
+    @Param({"3", "20", "100"})
+    private int itemCount;
+
+    private Cart cart;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        cart = BenchmarkFixtures.cart(itemCount);
+        objectMapper = BenchmarkFixtures.objectMapper();
+    }
+
+    @Benchmark
+    public CartResponse map() {
+        return CartResponse.from(cart);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(map());
+    }
+}
@@ -0,0 +1,53 @@
+package kr.ac.jbnu.cr.bookstore.dto.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wrapping an already mapped page of books, sorted like the listing endpoints, and writing it out
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PageResponseBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private Page<BookResponse> page;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        List<BookResponse> content = BenchmarkFixtures.books(pageSize).stream()
+                .map(BookResponse::from)
+                .toList();
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createdAt")), 1000);
+        objectMapper = BenchmarkFixtures.objectMapper();
+    }
+
+    @Benchmark
+    public PageResponse<BookResponse> of() {
+        return PageResponse.of(page);
+    }
+
+    @Benchmark
+    public byte[] ofAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(of());
+    }
+}
@@ -0,0 +1,49 @@
+package kr.ac.jbnu.cr.bookstore.dto.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.ac.jbnu.cr.bookstore.model.Review;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A page of reviews of one book, each with a few likes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReviewResponseBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private List<Review> reviews;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        reviews = BenchmarkFixtures.reviews(pageSize);
+        objectMapper = BenchmarkFixtures.objectMapper();
+    }
+
+    @Benchmark
+    public List<ReviewResponse> map() {
+        return reviews.stream()
+                .map(ReviewResponse::from)
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(map());
+    }
+}
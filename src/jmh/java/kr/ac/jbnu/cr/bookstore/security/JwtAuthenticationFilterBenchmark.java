@@ -0,0 +1,84 @@
+package kr.ac.jbnu.cr.bookstore.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import kr.ac.jbnu.cr.bookstore.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Authentication overhead per request: the whole filter pass from reading the header to
+ * setting the security context. The blocklist starts empty, so the revocation check is
+ * the local Bloom filter miss every unrevoked token takes and Redis is never called.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain CHAIN = (request, response) -> {
+    };
+
+    private JwtAuthenticationFilter filter;
+    private JwtAuthenticationFilter uncachedFilter;
+    private MockHttpServletRequest authenticated;
+    private MockHttpServletRequest anonymous;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        AccessTokenBlocklist blocklist = new AccessTokenBlocklist(new StringRedisTemplate(), 100_000, 0.001);
+        JwtService jwtService = JwtServiceBenchmark.jwtService(10_000);
+        filter = new JwtAuthenticationFilter(jwtService, blocklist);
+        uncachedFilter = new JwtAuthenticationFilter(JwtServiceBenchmark.jwtService(0), blocklist);
+
+        User user = User.builder()
+                .id(42L)
+                .email("reader@example.com")
+                .username("reader")
+                .passwordHash("hash")
+                .build();
+        authenticated = new MockHttpServletRequest("GET", "/orders");
+        authenticated.addHeader("Authorization", "Bearer " + jwtService.createToken(user));
+        anonymous = new MockHttpServletRequest("GET", "/books");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Authentication validToken() throws ServletException, IOException {
+        return authenticate(filter, authenticated);
+    }
+
+    @Benchmark
+    public Authentication validTokenUncached() throws ServletException, IOException {
+        return authenticate(uncachedFilter, authenticated);
+    }
+
+    @Benchmark
+    public Authentication noToken() throws ServletException, IOException {
+        return authenticate(filter, anonymous);
+    }
+
+    private Authentication authenticate(JwtAuthenticationFilter jwtFilter, MockHttpServletRequest request)
+            throws ServletException, IOException {
+        try {
+            jwtFilter.doFilter(request, response, CHAIN);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
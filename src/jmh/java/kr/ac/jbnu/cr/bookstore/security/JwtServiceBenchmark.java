@@ -0,0 +1,91 @@
+package kr.ac.jbnu.cr.bookstore.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import kr.ac.jbnu.cr.bookstore.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issuing on login and token verification on every authenticated request.
+ * Verification is measured three ways: a parser built per call (how it was done before
+ * JwtService kept one), the shared parser with the verified-token cache disabled, and
+ * the shared parser with a cache hit, which is what a client reusing its token gets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtServiceBenchmark {
+
+    static final String SECRET = "0123456789abcdef0123456789abcdef";
+    static final long EXPIRATION = 3_600_000;
+    static final long REFRESH_EXPIRATION = 86_400_000;
+    static final String ISSUER = "bookstore-bench";
+
+    private SecretKey key;
+    private JwtService jwtService;
+    private JwtService uncachedJwtService;
+    private User user;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        jwtService = jwtService(10_000);
+        // A cache of size 0 evicts every entry on insert, so each parse verifies the signature
+        uncachedJwtService = jwtService(0);
+        user = User.builder()
+                .id(42L)
+                .email("reader@example.com")
+                .username("reader")
+                .passwordHash("hash")
+                .build();
+        accessToken = jwtService.createToken(user);
+        jwtService.parse(accessToken);
+    }
+
+    static JwtService jwtService(int verifiedCacheSize) {
+        return new JwtService(SECRET, EXPIRATION, REFRESH_EXPIRATION, ISSUER, verifiedCacheSize);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtService.createToken(user);
+    }
+
+    @Benchmark
+    public String createRefreshToken() {
+        return jwtService.createRefreshToken(user);
+    }
+
+    @Benchmark
+    public Claims verifyColdParser() {
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(accessToken).getPayload();
+    }
+
+    @Benchmark
+    public Optional<TokenClaims> verifyReusedParser() {
+        return uncachedJwtService.parse(accessToken);
+    }
+
+    @Benchmark
+    public Optional<Long> getUserCached() {
+        return jwtService.getUser(accessToken);
+    }
+
+    @Benchmark
+    public Optional<String> getRoleCached() {
+        return jwtService.getRole(accessToken);
+    }
+}
@@ -2,6 +2,7 @@ package kr.ac.jbnu.cr.bookstore.config;
 
 import kr.ac.jbnu.cr.bookstore.model.*;
 import kr.ac.jbnu.cr.bookstore.repository.*;
+import kr.ac.jbnu.cr.bookstore.service.OutboxService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.CommandLineRunner;
@@ -31,6 +32,7 @@ public class DataSeeder implements CommandLineRunner {
     private final CartRepository cartRepository;
     private final CartItemRepository cartItemRepository;
     private final OrderRepository orderRepository;
+    private final OutboxService outboxService;
     private final PasswordEncoder passwordEncoder;
 
     private final Random random = new Random(42);
@@ -43,6 +45,7 @@ public class DataSeeder implements CommandLineRunner {
                       CartRepository cartRepository,
                       CartItemRepository cartItemRepository,
                       OrderRepository orderRepository,
+                      OutboxService outboxService,
                       PasswordEncoder passwordEncoder) {
         this.userRepository = userRepository;
         this.categoryRepository = categoryRepository;
@@ -52,6 +55,7 @@ public class DataSeeder implements CommandLineRunner {
         this.cartRepository = cartRepository;
         this.cartItemRepository = cartItemRepository;
         this.orderRepository = orderRepository;
+        this.outboxService = outboxService;
         this.passwordEncoder = passwordEncoder;
     }
 
@@ -669,6 +673,8 @@ public class DataSeeder implements CommandLineRunner {
 
                 order.setTotalAmount(total);
                 orderRepository.save(order);
+                // Feed the read models and rollups like a real checkout would
+                outboxService.orderCreated(order);
                 orderCount++;
             }
         }
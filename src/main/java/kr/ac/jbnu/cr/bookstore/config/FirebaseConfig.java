@@ -1,31 +0,0 @@
-package kr.ac.jbnu.cr.bookstore.config;
-
-import com.google.auth.oauth2.GoogleCredentials;
-import com.google.firebase.FirebaseApp;
-import com.google.firebase.FirebaseOptions;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.core.io.ClassPathResource;
-
-import java.io.IOException;
-import java.io.InputStream;
-
-@Configuration
-public class FirebaseConfig {
-
-    @Bean
-    public FirebaseApp firebaseApp() throws IOException {
-        if (FirebaseApp.getApps().isEmpty()) {
-            ClassPathResource resource = new ClassPathResource("firebase-service-account.json");
-
-            try (InputStream serviceAccount = resource.getInputStream()) {
-                FirebaseOptions options = FirebaseOptions.builder()
-                        .setCredentials(GoogleCredentials.fromStream(serviceAccount))
-                        .build();
-
-                return FirebaseApp.initializeApp(options);
-            }
-        }
-        return FirebaseApp.getInstance();
-    }
-}
\ No newline at end of file
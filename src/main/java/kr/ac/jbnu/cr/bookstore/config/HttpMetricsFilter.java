@@ -0,0 +1,162 @@
+package kr.ac.jbnu.cr.bookstore.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Collectors;
+
+/**
+ * Times every request per route template, method and status and counts requests in flight.
+ * Timers are registered the first time a combination is seen and then looked up by route,
+ * method and status code without building tags, so the request path only does map lookups
+ * and a timer update. Percentiles come from Micrometer's HdrHistogram-backed recorder and
+ * histogram buckets are published for Prometheus. Replaces Boot's http.server.requests
+ * observation, which allocates an observation context per request.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class HttpMetricsFilter extends OncePerRequestFilter {
+
+    static final String METRIC_NAME = "http.route.requests";
+    static final String NOT_FOUND = "NOT_FOUND";
+    static final String UNKNOWN = "UNKNOWN";
+    static final String OTHER_METHOD = "OTHER";
+    private static final int STATUS_CODES = 600;
+    private static final Set<String> STANDARD_METHODS = Arrays.stream(HttpMethod.values())
+            .map(HttpMethod::name)
+            .collect(Collectors.toUnmodifiableSet());
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // route template -> method -> timer per status code
+    private final Map<String, Map<String, AtomicReferenceArray<Timer>>> timers = new ConcurrentHashMap<>();
+
+    public HttpMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder(METRIC_NAME + ".active", inFlight, AtomicInteger::get)
+                .description("Requests currently being handled")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        long start = System.nanoTime();
+        inFlight.incrementAndGet();
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            // The container turns it into a 500 after this filter has returned
+            record(request, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, start);
+            throw e;
+        }
+        if (request.isAsyncStarted()) {
+            // Streaming responses (SSE) finish after the filter returns
+            request.getAsyncContext().addListener(new AsyncCompletion(request, response, start));
+        } else {
+            record(request, response.getStatus(), start);
+        }
+    }
+
+    private void record(HttpServletRequest request, int status, long start) {
+        inFlight.decrementAndGet();
+        timer(method(request), route(request, status), status)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(String method, String route, int status) {
+        int index = status >= 0 && status < STATUS_CODES ? status : 0;
+        AtomicReferenceArray<Timer> byStatus = timers
+                .computeIfAbsent(route, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(method, key -> new AtomicReferenceArray<>(STATUS_CODES));
+        Timer timer = byStatus.get(index);
+        if (timer == null) {
+            timer = Timer.builder(METRIC_NAME)
+                    .description("Request latency per route template")
+                    .tag("method", method)
+                    .tag("uri", route)
+                    .tag("status", String.valueOf(index))
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofSeconds(10))
+                    .register(meterRegistry);
+            byStatus.compareAndSet(index, null, timer);
+        }
+        return timer;
+    }
+
+    /**
+     * The container accepts any token as a method, so only the standard ones become tag values
+     */
+    private static String method(HttpServletRequest request) {
+        String method = request.getMethod();
+        return STANDARD_METHODS.contains(method) ? method : OTHER_METHOD;
+    }
+
+    private static String route(HttpServletRequest request, int status) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern instanceof String route) {
+            return route;
+        }
+        // Unmatched paths would give every probed URL its own time series
+        return status == HttpServletResponse.SC_NOT_FOUND ? NOT_FOUND : UNKNOWN;
+    }
+
+    private class AsyncCompletion implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final long start;
+
+        AsyncCompletion(HttpServletRequest request, HttpServletResponse response, long start) {
+            this.request = request;
+            this.response = response;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(request, response.getStatus(), start);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package kr.ac.jbnu.cr.bookstore.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.ac.jbnu.cr.bookstore.dto.response.ErrorResponse;
+import kr.ac.jbnu.cr.bookstore.security.JwtAuthentication;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * Replays the stored response for POST/PATCH requests carrying an Idempotency-Key
+ * header instead of executing them again.
+ * The first request claims the key in Redis (SET NX with a lock TTL), later ones with
+ * the same key wait for it to complete and receive its cached response. Records expire
+ * after the retention period and responses larger than max-body-size are not cached.
+ * Request bodies are buffered for fingerprinting, up to max-request-size; larger ones are
+ * rejected with 413. When Redis is unavailable requests are processed without the key.
+ * Runs after the security filter chain so keys are scoped per authenticated user.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyFilter.class);
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final long POLL_INTERVAL_MS = 50;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration retention;
+    private final Duration lockTimeout;
+    private final Duration waitTimeout;
+    private final int maxBodySize;
+    private final int maxRequestSize;
+
+    public IdempotencyFilter(StringRedisTemplate redisTemplate,
+                             ObjectMapper objectMapper,
+                             @Value("${app.idempotency.retention:24h}") Duration retention,
+                             @Value("${app.idempotency.lock-timeout:30s}") Duration lockTimeout,
+                             @Value("${app.idempotency.wait-timeout:5s}") Duration waitTimeout,
+                             @Value("${app.idempotency.max-body-size:65536}") int maxBodySize,
+                             @Value("${app.idempotency.max-request-size:1048576}") int maxRequestSize) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.retention = retention;
+        this.lockTimeout = lockTimeout;
+        this.waitTimeout = waitTimeout;
+        this.maxBodySize = maxBodySize;
+        this.maxRequestSize = maxRequestSize;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String method = request.getMethod();
+        return request.getHeader(HEADER) == null
+                || !("POST".equals(method) || "PATCH".equals(method));
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String idempotencyKey = request.getHeader(HEADER);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, HttpStatus.BAD_REQUEST, "BAD_REQUEST",
+                    HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        byte[] body = readBody(request);
+        if (body == null) {
+            writeError(request, response, HttpStatus.PAYLOAD_TOO_LARGE, "PAYLOAD_TOO_LARGE",
+                    "Requests with an " + HEADER + " are limited to " + maxRequestSize + " bytes");
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request, body);
+        String key = KEY_PREFIX + getScope(request) + ":" + idempotencyKey;
+        String fingerprint = fingerprint(cachedRequest);
+
+        Boolean acquired;
+        try {
+            acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(key, write(StoredResponse.inFlight(fingerprint)), lockTimeout);
+        } catch (Exception e) {
+            // Store unavailable: process normally rather than rejecting the request
+            logger.warn("Idempotency store unavailable, processing without key: {}", e.getMessage());
+            filterChain.doFilter(cachedRequest, response);
+            return;
+        }
+
+        if (Boolean.TRUE.equals(acquired)) {
+            execute(cachedRequest, response, filterChain, key, fingerprint);
+        } else {
+            replay(cachedRequest, response, filterChain, key, fingerprint);
+        }
+    }
+
+    private void execute(CachedBodyRequest request, HttpServletResponse response, FilterChain filterChain,
+                         String key, String fingerprint) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+
+        try {
+            filterChain.doFilter(request, wrapper);
+            completed = true;
+        } finally {
+            try {
+                byte[] body = wrapper.getContentAsByteArray();
+                // Server errors and oversized bodies are not replayed: release the key so a retry re-executes
+                if (completed && wrapper.getStatus() < 500 && body.length <= maxBodySize) {
+                    StoredResponse stored = StoredResponse.completed(fingerprint, wrapper.getStatus(),
+                            wrapper.getContentType(), new String(body, StandardCharsets.UTF_8));
+                    redisTemplate.opsForValue().set(key, write(stored), retention);
+                } else {
+                    redisTemplate.delete(key);
+                }
+            } catch (Exception e) {
+                logger.warn("Failed to record idempotent response: {}", e.getMessage());
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void replay(CachedBodyRequest request, HttpServletResponse response, FilterChain filterChain,
+                        String key, String fingerprint) throws ServletException, IOException {
+        StoredResponse stored;
+        try {
+            stored = awaitCompletion(key);
+        } catch (Exception e) {
+            // Same as an unavailable store on acquire: process normally
+            logger.warn("Idempotency store unavailable, processing without key: {}", e.getMessage());
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (stored == null) {
+            writeError(request, response, HttpStatus.CONFLICT, "STATE_CONFLICT",
+                    "The original request with this " + HEADER + " failed, retry with the same key");
+            return;
+        }
+
+        if (!stored.getFingerprint().equals(fingerprint)) {
+            writeError(request, response, HttpStatus.UNPROCESSABLE_ENTITY, "IDEMPOTENCY_KEY_REUSED",
+                    HEADER + " was already used for a different request");
+            return;
+        }
+
+        if (!stored.isCompleted()) {
+            writeError(request, response, HttpStatus.CONFLICT, "STATE_CONFLICT",
+                    "A request with this " + HEADER + " is still being processed");
+            return;
+        }
+
+        response.setStatus(stored.getStatus());
+        if (stored.getContentType() != null) {
+            response.setContentType(stored.getContentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.getOutputStream().write(stored.getBody().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Wait for the first request with this key to finish instead of re-executing it
+     */
+    private StoredResponse awaitCompletion(String key) throws IOException {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        StoredResponse stored = read(key);
+        while (stored != null && !stored.isCompleted() && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(POLL_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            stored = read(key);
+        }
+        return stored;
+    }
+
+    /**
+     * The whole body, or null when it is longer than max-request-size
+     */
+    private byte[] readBody(HttpServletRequest request) throws IOException {
+        if (request.getContentLengthLong() > maxRequestSize) {
+            return null;
+        }
+        // Content-Length can be absent (chunked), so the read itself is bounded too
+        byte[] body = request.getInputStream().readNBytes(maxRequestSize + 1);
+        return body.length > maxRequestSize ? null : body;
+    }
+
+    private String getScope(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof JwtAuthentication jwtAuthentication) {
+            return "user:" + jwtAuthentication.getUserId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private String fingerprint(CachedBodyRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            if (request.getQueryString() != null) {
+                digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update(request.getBody());
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private StoredResponse read(String key) throws IOException {
+        String value = redisTemplate.opsForValue().get(key);
+        return value != null ? objectMapper.readValue(value, StoredResponse.class) : null;
+    }
+
+    private String write(StoredResponse stored) throws IOException {
+        return objectMapper.writeValueAsString(stored);
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response,
+                            HttpStatus status, String code, String message) throws IOException {
+        ErrorResponse error = ErrorResponse.builder()
+                .status(status.value())
+                .code(code)
+                .message(message)
+                .path(request.getRequestURI())
+                .build();
+
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class StoredResponse {
+
+        private boolean completed;
+        private String fingerprint;
+        private int status;
+        private String contentType;
+        private String body;
+
+        static StoredResponse inFlight(String fingerprint) {
+            return new StoredResponse(false, fingerprint, 0, null, null);
+        }
+
+        static StoredResponse completed(String fingerprint, int status, String contentType, String body) {
+            return new StoredResponse(true, fingerprint, status, contentType, body);
+        }
+    }
+
+    /**
+     * Buffers the request body so it can be fingerprinted before the controller reads it
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        byte[] getBody() {
+            return body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package kr.ac.jbnu.cr.bookstore.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Share of the Hikari pool in use, next to the raw active/idle/pending counts Boot binds
+     */
+    @Bean
+    public MeterBinder hikariUtilizationMetrics(DataSource dataSource) {
+        return registry -> {
+            // Look through the statement timing proxy
+            HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class);
+            if (hikari != null) {
+                Gauge.builder("hikaricp.connections.utilization", hikari, MetricsConfig::utilization)
+                        .description("Active connections as a fraction of the maximum pool size")
+                        .tag("pool", String.valueOf(hikari.getPoolName()))
+                        .register(registry);
+            }
+        };
+    }
+
+    private static double utilization(HikariDataSource hikari) {
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        if (pool == null || hikari.getMaximumPoolSize() <= 0) {
+            return Double.NaN;
+        }
+        return (double) pool.getActiveConnections() / hikari.getMaximumPoolSize();
+    }
+}
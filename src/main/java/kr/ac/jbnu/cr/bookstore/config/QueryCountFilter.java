@@ -0,0 +1,187 @@
+package kr.ac.jbnu.cr.bookstore.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.Map;
+
+/**
+ * Development aid: counts the SQL statements each request runs, reports them in the
+ * X-Query-Count header and warns about statements repeated repeat-threshold times or more,
+ * which usually means an N+1. The body is held back until the handler returns so the header
+ * can still be set after it was written. Requests that go async (exports, event streams) get
+ * the count of their first dispatch and then write straight through, so they are never
+ * buffered whole. Statements run on other threads (async work) are not counted.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@ConditionalOnProperty(name = "app.query-count.enabled", havingValue = "true")
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Query-Count";
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryCountFilter.class);
+
+    private final int repeatThreshold;
+
+    public QueryCountFilter(@Value("${app.query-count.repeat-threshold:3}") int repeatThreshold) {
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        boolean streaming = accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+
+        try (QueryCounter.Scope scope = QueryCounter.start()) {
+            if (streaming) {
+                filterChain.doFilter(request, response);
+            } else {
+                HeaderDeferringResponse wrapper = new HeaderDeferringResponse(response);
+                try {
+                    filterChain.doFilter(request, wrapper);
+                } finally {
+                    wrapper.setHeader(HEADER, String.valueOf(scope.getCount()));
+                    wrapper.release();
+                }
+            }
+            warnAboutRepeats(request, scope);
+        }
+    }
+
+    private void warnAboutRepeats(HttpServletRequest request, QueryCounter.Scope scope) {
+        Map<String, Integer> repeated = scope.getRepeated(repeatThreshold);
+        repeated.forEach((sql, times) -> logger.warn("Possible N+1 on {} {}: statement ran {} times of {}: {}",
+                request.getMethod(), request.getRequestURI(), times, scope.getCount(), sql));
+    }
+
+    /**
+     * Keeps the body in memory until released, then writes through to the response.
+     * An async task may already be writing while the first dispatch unwinds, so writes and
+     * the release are serialized on the wrapper.
+     */
+    static class HeaderDeferringResponse extends HttpServletResponseWrapper {
+
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+        private final ServletOutputStream outputStream = new DeferredOutputStream();
+        private PrintWriter writer;
+        private boolean released;
+
+        HeaderDeferringResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return outputStream;
+        }
+
+        @Override
+        public synchronized PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(outputStream, getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public synchronized void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            // Flushing the real response would commit it before the header is set
+            if (released) {
+                super.flushBuffer();
+            }
+        }
+
+        @Override
+        public synchronized void resetBuffer() {
+            buffer.reset();
+            super.resetBuffer();
+        }
+
+        @Override
+        public synchronized void reset() {
+            buffer.reset();
+            super.reset();
+        }
+
+        synchronized void release() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            released = true;
+            if (buffer.size() > 0) {
+                buffer.writeTo(getResponse().getOutputStream());
+                buffer.reset();
+            }
+        }
+
+        private synchronized void write(byte[] b, int off, int len) throws IOException {
+            if (released) {
+                getResponse().getOutputStream().write(b, off, len);
+            } else {
+                buffer.write(b, off, len);
+            }
+        }
+
+        private synchronized void flushIfReleased() throws IOException {
+            if (released) {
+                getResponse().getOutputStream().flush();
+            }
+        }
+
+        private class DeferredOutputStream extends ServletOutputStream {
+
+            @Override
+            public void write(int b) throws IOException {
+                HeaderDeferringResponse.this.write(new byte[] {(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                HeaderDeferringResponse.this.write(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                flushIfReleased();
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener listener) {
+                throw new UnsupportedOperationException();
+            }
+        }
+    }
+}
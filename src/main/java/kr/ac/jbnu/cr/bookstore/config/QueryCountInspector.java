@@ -0,0 +1,17 @@
+package kr.ac.jbnu.cr.bookstore.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Reports every statement Hibernate prepares to {@link QueryCounter}, unchanged.
+ * Registered through hibernate.session_factory.statement_inspector so it is also active
+ * in JPA test slices.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.record(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,274 @@
+package kr.ac.jbnu.cr.bookstore.config;
+
+import kr.ac.jbnu.cr.bookstore.dto.response.QueryDiagnosticsResponse;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Times every JDBC statement (the data source is wrapped by {@link QueryStatsConfig}) and
+ * aggregates by SQL shape: the statement with literals replaced by ? and IN lists folded,
+ * so one repository query is one entry however it is called. Each shape keeps a count,
+ * total and max time and an HdrHistogram for percentiles, plus the application frame that
+ * first ran it. Executions slower than slow-threshold are also kept, the most recent
+ * slow-samples of them. Their bind parameters are only captured with capture-parameters on,
+ * and even then every value of a statement touching a credential or contact column is
+ * redacted. At most max-shapes shapes are tracked, later ones are counted under "(other)".
+ */
+@Component
+public class QueryStatsCollector implements QueryExecutionListener {
+
+    public enum Sort { TOTAL, COUNT, MAX }
+
+    static final String OTHER_SHAPE = "(other)";
+    static final String REDACTED = "[redacted]";
+    private static final String APPLICATION_PACKAGE = "kr.ac.jbnu.cr.bookstore.";
+    private static final int MAX_CACHED_STATEMENTS = 2000;
+    private static final int MAX_PARAMETER_LENGTH = 64;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    // Positions of ? are not mapped to columns, so a match redacts the whole statement
+    private static final Pattern SENSITIVE_COLUMN = Pattern.compile("(?i)password|passwd|secret|token|email|hash");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+
+    private final long slowThresholdNanos;
+    private final int slowSamples;
+    private final int maxShapes;
+    private final boolean captureParameters;
+    private final Map<String, ShapeStats> shapes = new ConcurrentHashMap<>();
+    // Raw statement text -> shape, so normalizing is paid once per distinct statement
+    private final Map<String, String> shapeCache = new ConcurrentHashMap<>();
+    private final Deque<QueryDiagnosticsResponse.SlowQuery> slowQueries = new ArrayDeque<>();
+    private final ThreadLocal<long[]> startTimes = ThreadLocal.withInitial(() -> new long[1]);
+    private volatile Instant since = Instant.now();
+
+    public QueryStatsCollector(@Value("${app.diagnostics.queries.slow-threshold:500ms}") Duration slowThreshold,
+                               @Value("${app.diagnostics.queries.slow-samples:50}") int slowSamples,
+                               @Value("${app.diagnostics.queries.max-shapes:500}") int maxShapes,
+                               @Value("${app.diagnostics.queries.capture-parameters:false}") boolean captureParameters) {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.slowSamples = slowSamples;
+        this.maxShapes = maxShapes;
+        this.captureParameters = captureParameters;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        startTimes.get()[0] = System.nanoTime();
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedNanos = System.nanoTime() - startTimes.get()[0];
+        if (queryInfoList.isEmpty()) {
+            return;
+        }
+        // A batch of different statements is charged to the first of them
+        QueryInfo query = queryInfoList.get(0);
+        String shape = shapeOf(query.getQuery());
+        ShapeStats stats = statsFor(shape);
+        stats.record(elapsedNanos, execInfo.isSuccess());
+
+        if (elapsedNanos >= slowThresholdNanos) {
+            keepSlow(new QueryDiagnosticsResponse.SlowQuery(shape, query.getQuery(), parameters(query),
+                    toMillis(elapsedNanos), execInfo.isSuccess(), callerFrame(), Instant.now()));
+        }
+    }
+
+    /**
+     * Shapes ordered by total time, count or max time, highest first
+     */
+    public QueryDiagnosticsResponse snapshot(Sort sort, int limit) {
+        List<QueryDiagnosticsResponse.QueryShape> all = new ArrayList<>(shapes.size());
+        long totalCount = 0;
+        double totalMillis = 0;
+        for (ShapeStats stats : shapes.values()) {
+            QueryDiagnosticsResponse.QueryShape shape = stats.snapshot();
+            all.add(shape);
+            totalCount += shape.getCount();
+            totalMillis += shape.getTotalMs();
+        }
+        all.sort(comparator(sort).reversed());
+
+        List<QueryDiagnosticsResponse.SlowQuery> slow;
+        synchronized (slowQueries) {
+            slow = new ArrayList<>(slowQueries);
+        }
+        return QueryDiagnosticsResponse.builder()
+                .since(since)
+                .totalStatements(totalCount)
+                .totalMs(totalMillis)
+                .trackedShapes(all.size())
+                .shapes(all.subList(0, Math.min(limit, all.size())))
+                .slowQueries(slow)
+                .build();
+    }
+
+    public void reset() {
+        shapes.clear();
+        synchronized (slowQueries) {
+            slowQueries.clear();
+        }
+        since = Instant.now();
+    }
+
+    static String normalize(String sql) {
+        String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        return IN_LIST.matcher(shape).replaceAll("in (?)");
+    }
+
+    private String shapeOf(String sql) {
+        String shape = shapeCache.get(sql);
+        if (shape == null) {
+            shape = normalize(sql);
+            if (shapeCache.size() < MAX_CACHED_STATEMENTS) {
+                shapeCache.put(sql, shape);
+            }
+        }
+        return shape;
+    }
+
+    private ShapeStats statsFor(String shape) {
+        ShapeStats stats = shapes.get(shape);
+        if (stats != null) {
+            return stats;
+        }
+        if (shapes.size() >= maxShapes) {
+            return shapes.computeIfAbsent(OTHER_SHAPE, key -> new ShapeStats(key, null));
+        }
+        return shapes.computeIfAbsent(shape, key -> new ShapeStats(key, callerFrame()));
+    }
+
+    private void keepSlow(QueryDiagnosticsResponse.SlowQuery slowQuery) {
+        synchronized (slowQueries) {
+            if (slowQueries.size() >= slowSamples) {
+                slowQueries.removeFirst();
+            }
+            slowQueries.addLast(slowQuery);
+        }
+    }
+
+    private List<List<String>> parameters(QueryInfo query) {
+        if (!captureParameters) {
+            return null;
+        }
+        boolean redact = SENSITIVE_COLUMN.matcher(query.getQuery()).find();
+        List<List<String>> batches = new ArrayList<>();
+        for (List<ParameterSetOperation> operations : query.getParametersList()) {
+            List<String> values = new ArrayList<>(operations.size());
+            for (ParameterSetOperation operation : operations) {
+                Object[] args = operation.getArgs();
+                if (redact) {
+                    values.add(REDACTED);
+                } else {
+                    values.add(ParameterSetOperation.isSetNullParameterOperation(operation) || args.length < 2
+                            ? "null" : truncate(String.valueOf(args[1])));
+                }
+            }
+            batches.add(values);
+        }
+        return batches;
+    }
+
+    private static String truncate(String value) {
+        return value.length() > MAX_PARAMETER_LENGTH ? value.substring(0, MAX_PARAMETER_LENGTH) + "..." : value;
+    }
+
+    /**
+     * The innermost application frame outside config, e.g. BookService.searchBooks
+     */
+    private static String callerFrame() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE)
+                        && !frame.getClassName().startsWith(APPLICATION_PACKAGE + "config."))
+                .findFirst()
+                .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1)
+                        + "." + frame.getMethodName())
+                .orElse(null));
+    }
+
+    private static Comparator<QueryDiagnosticsResponse.QueryShape> comparator(Sort sort) {
+        return switch (sort) {
+            case COUNT -> Comparator.comparingLong(QueryDiagnosticsResponse.QueryShape::getCount);
+            case MAX -> Comparator.comparingDouble(QueryDiagnosticsResponse.QueryShape::getMaxMs);
+            case TOTAL -> Comparator.comparingDouble(QueryDiagnosticsResponse.QueryShape::getTotalMs);
+        };
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static class ShapeStats {
+
+        private final String shape;
+        private final String origin;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        // Writers record into the recorder without locking; readers fold it into the total
+        private final Recorder recorder = new Recorder(3);
+        private final Histogram microseconds = new Histogram(3);
+
+        ShapeStats(String shape, String origin) {
+            this.shape = shape;
+            this.origin = origin;
+        }
+
+        void record(long elapsedNanos, boolean success) {
+            count.increment();
+            if (!success) {
+                errors.increment();
+            }
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+            recorder.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(elapsedNanos)));
+        }
+
+        synchronized QueryDiagnosticsResponse.QueryShape snapshot() {
+            microseconds.add(recorder.getIntervalHistogram());
+            long executions = count.sum();
+            double total = toMillis(totalNanos.sum());
+            return QueryDiagnosticsResponse.QueryShape.builder()
+                    .shape(shape)
+                    .origin(origin)
+                    .count(executions)
+                    .errors(errors.sum())
+                    .totalMs(total)
+                    .meanMs(executions > 0 ? total / executions : 0)
+                    .p50Ms(percentile(50))
+                    .p95Ms(percentile(95))
+                    .p99Ms(percentile(99))
+                    .maxMs(toMillis(maxNanos.get()))
+                    .build();
+        }
+
+        private double percentile(double percentile) {
+            return microseconds.getValueAtPercentile(percentile) / 1000.0;
+        }
+    }
+}
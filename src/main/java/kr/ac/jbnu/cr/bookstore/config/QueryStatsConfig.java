@@ -0,0 +1,35 @@
+package kr.ac.jbnu.cr.bookstore.config;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "app.diagnostics.queries.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryStatsConfig {
+
+    /**
+     * Wraps the data source so every statement is timed by {@link QueryStatsCollector}.
+     * The proxy unwraps to the Hikari pool, so pool metrics still find it.
+     */
+    @Bean
+    public static BeanPostProcessor queryStatsDataSourcePostProcessor(ObjectProvider<QueryStatsCollector> collector) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(collector.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
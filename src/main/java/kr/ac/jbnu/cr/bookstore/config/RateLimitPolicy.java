@@ -0,0 +1,91 @@
+package kr.ac.jbnu.cr.bookstore.config;
+
+import kr.ac.jbnu.cr.bookstore.security.JwtAuthentication;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.util.AntPathMatcher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One rate limit: which requests it covers, what it counts them by and how much each costs.
+ * Bound from app.rate-limit.policies[n]; every policy matching a request is charged.
+ */
+@Getter
+@Setter
+public class RateLimitPolicy {
+
+    public enum Key { IP, USER }
+
+    public enum Principal { ANY, ANONYMOUS, AUTHENTICATED }
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private String name;
+    private List<String> methods = new ArrayList<>();
+    private List<String> paths = new ArrayList<>(List.of("/**"));
+    private Principal principal = Principal.ANY;
+    private List<String> roles = new ArrayList<>();
+    // USER falls back to the client IP for anonymous requests
+    private Key key = Key.IP;
+    private int limit = 100;
+    private Duration period = Duration.ofMinutes(1);
+    // Largest burst in cost units, defaults to the limit
+    private Integer burst;
+    private int defaultCost = 1;
+    private List<RouteCost> costs = new ArrayList<>();
+
+    public int getBurstOrLimit() {
+        return burst != null ? burst : limit;
+    }
+
+    public boolean appliesTo(String method, String path, JwtAuthentication authentication) {
+        if (principal == Principal.ANONYMOUS && authentication != null
+                || principal == Principal.AUTHENTICATED && authentication == null) {
+            return false;
+        }
+        if (!roles.isEmpty() && (authentication == null || roles.stream().noneMatch(role ->
+                authentication.getAuthorities().stream()
+                        .anyMatch(authority -> authority.getAuthority().equals("ROLE_" + role))))) {
+            return false;
+        }
+        return matches(methods, paths, method, path);
+    }
+
+    /**
+     * Cost of the request in this policy's units; 0 means it is not counted
+     */
+    public int costOf(String method, String path) {
+        for (RouteCost cost : costs) {
+            if (matches(cost.getMethods(), cost.getPaths(), method, path)) {
+                return cost.getCost();
+            }
+        }
+        return defaultCost;
+    }
+
+    public String keyFor(String clientIp, JwtAuthentication authentication) {
+        if (key == Key.USER && authentication != null) {
+            return "user:" + authentication.getUserId();
+        }
+        return "ip:" + clientIp;
+    }
+
+    private static boolean matches(List<String> methods, List<String> paths, String method, String path) {
+        if (!methods.isEmpty() && methods.stream().noneMatch(method::equalsIgnoreCase)) {
+            return false;
+        }
+        return paths.stream().anyMatch(pattern -> PATH_MATCHER.match(pattern, path));
+    }
+
+    @Getter
+    @Setter
+    public static class RouteCost {
+
+        private List<String> methods = new ArrayList<>();
+        private List<String> paths = new ArrayList<>(List.of("/**"));
+        private int cost = 1;
+    }
+}
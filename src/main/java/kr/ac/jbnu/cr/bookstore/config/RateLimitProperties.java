@@ -0,0 +1,33 @@
+package kr.ac.jbnu.cr.bookstore.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rate limiting settings under app.rate-limit.
+ * Without any configured policy a single 100 requests per minute per IP policy applies.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    // Largest number of tokens a node leases from Redis at once, per policy and client
+    private int batchSize = 10;
+    private Duration lease = Duration.ofSeconds(1);
+    private List<RateLimitPolicy> policies = new ArrayList<>();
+
+    public List<RateLimitPolicy> getEffectivePolicies() {
+        if (!policies.isEmpty()) {
+            return policies;
+        }
+        RateLimitPolicy fallback = new RateLimitPolicy();
+        fallback.setName("default");
+        return List.of(fallback);
+    }
+}
@@ -0,0 +1,225 @@
+package kr.ac.jbnu.cr.bookstore.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cluster-wide allowance per rate limit policy and client key.
+ * The limit itself is a GCRA (generic cell rate algorithm) kept in Redis and updated by
+ * one Lua script, so there is no window edge to burst across and no INCR/EXPIRE race.
+ * Each node leases tokens from it in batches into a local bucket and answers from that
+ * bucket with a single CAS until it runs dry or the lease expires; only leasing takes the
+ * bucket's lock. Batch size adapts per bucket: it doubles when a lease is used up and halves
+ * when tokens are left over, and leftovers are returned with the next lease so quiet clients
+ * are not charged for them. Rejections are remembered locally until the retry time.
+ * Leases go through {@link RedisCircuitBreaker}; while Redis is unavailable the same GCRA
+ * runs on the bucket itself, so each node enforces the limit on its own instead of
+ * letting every request through.
+ */
+@Component
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "rate_limit:";
+
+    // Returns {granted, remaining, retry after ms}; the clock is Redis TIME so every node agrees.
+    // Nothing is granted unless at least ARGV[5] tokens are available.
+    private static final RedisScript<List> GCRA_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local interval = tonumber(ARGV[1])
+            local tolerance = tonumber(ARGV[2])
+            local requested = tonumber(ARGV[3])
+            local refund = tonumber(ARGV[4])
+            local minimum = tonumber(ARGV[5])
+
+            local tat = tonumber(redis.call('GET', KEYS[1]) or now)
+            if tat < now then
+                tat = now
+            end
+            if refund > 0 then
+                tat = math.max(now, tat - refund * interval)
+            end
+
+            local available = math.max(math.floor((tolerance - (tat - now)) / interval), 0)
+            local granted = 0
+            if available >= minimum then
+                granted = math.min(requested, available)
+            end
+            tat = tat + granted * interval
+            if tat > now then
+                redis.call('SET', KEYS[1], tostring(tat), 'PX', math.ceil(tat - now))
+            end
+
+            if granted > 0 then
+                return {granted, available - granted, 0}
+            end
+            return {0, available, math.ceil(tat + minimum * interval - tolerance - now)}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final int maxBatch;
+    private final long leaseMillis;
+    private final Map<String, LocalBucket> buckets = new ConcurrentHashMap<>();
+
+    public RateLimiter(StringRedisTemplate redisTemplate, RedisCircuitBreaker circuitBreaker,
+                       RateLimitProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.circuitBreaker = circuitBreaker;
+        this.maxBatch = properties.getBatchSize();
+        this.leaseMillis = properties.getLease().toMillis();
+    }
+
+    /**
+     * Charge the request's cost to the client's allowance under the policy
+     */
+    public Decision acquire(RateLimitPolicy policy, String clientKey, int cost) {
+        String bucketKey = policy.getName() + ":" + clientKey;
+        LocalBucket bucket = buckets.computeIfAbsent(bucketKey, key -> new LocalBucket());
+        long now = System.currentTimeMillis();
+        bucket.lastUsed = now;
+
+        if (bucket.tryTake(cost, now)) {
+            return Decision.allowed(bucket.remaining + bucket.tokens.get());
+        }
+        if (now < bucket.blockedUntil) {
+            return Decision.rejected(bucket.blockedUntil - now);
+        }
+
+        bucket.lock.lock();
+        try {
+            // Another request may have leased while this one waited
+            now = System.currentTimeMillis();
+            if (bucket.tryTake(cost, now)) {
+                return Decision.allowed(bucket.remaining + bucket.tokens.get());
+            }
+            if (now < bucket.blockedUntil) {
+                return Decision.rejected(bucket.blockedUntil - now);
+            }
+
+            int refund = bucket.tokens.getAndSet(0);
+            if (now >= bucket.leaseExpiresAt) {
+                // Lease expired with tokens left: hand them back and lease less next time
+                if (refund > 0) {
+                    bucket.batch = Math.max(1, bucket.batch / 2);
+                }
+            } else {
+                // Lease used up before it expired: lease more next time
+                bucket.batch = Math.min(maxBatch, bucket.batch * 2);
+            }
+
+            return lease(policy, KEY_PREFIX + bucketKey, bucket, cost, refund, now);
+        } finally {
+            bucket.lock.unlock();
+        }
+    }
+
+    /**
+     * Drop buckets of clients that have been quiet for a minute
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval:60000}")
+    public void evictIdle() {
+        long cutoff = System.currentTimeMillis() - 60_000;
+        buckets.values().removeIf(bucket -> bucket.lastUsed < cutoff && !bucket.lock.isLocked());
+    }
+
+    private Decision lease(RateLimitPolicy policy, String redisKey, LocalBucket bucket,
+                           int cost, int refund, long now) {
+        double interval = (double) policy.getPeriod().toMillis() / policy.getLimit();
+        double tolerance = interval * policy.getBurstOrLimit();
+
+        long requested = Math.max(bucket.batch, cost);
+        List<?> result = circuitBreaker.execute(
+                () -> redisTemplate.execute(GCRA_SCRIPT, List.of(redisKey),
+                        String.valueOf(interval), String.valueOf(tolerance),
+                        String.valueOf(requested), String.valueOf(refund), String.valueOf(cost)),
+                () -> bucket.localGcra(interval, tolerance, requested, refund, cost, now));
+
+        long granted = ((Number) result.get(0)).longValue();
+        bucket.remaining = ((Number) result.get(1)).longValue();
+        if (granted == 0) {
+            long retryAfter = Math.max(1, ((Number) result.get(2)).longValue());
+            bucket.blockedUntil = now + retryAfter;
+            return Decision.rejected(retryAfter);
+        }
+
+        bucket.leaseExpiresAt = now + leaseMillis;
+        bucket.tokens.set((int) granted - cost);
+        return Decision.allowed(bucket.remaining + bucket.tokens.get());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Decision {
+
+        private final boolean allowed;
+        // Approximate cost units left, -1 when unknown
+        private final long remaining;
+        private final long retryAfterMillis;
+
+        static Decision allowed(long remaining) {
+            return new Decision(true, remaining, 0);
+        }
+
+        static Decision rejected(long retryAfterMillis) {
+            return new Decision(false, 0, retryAfterMillis);
+        }
+    }
+
+    private static class LocalBucket {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final AtomicInteger tokens = new AtomicInteger();
+        private volatile long leaseExpiresAt;
+        private volatile long blockedUntil;
+        private volatile long remaining;
+        private volatile long lastUsed;
+        // Guarded by lock
+        private int batch = 1;
+        private double localTat;
+
+        boolean tryTake(int cost, long now) {
+            if (now >= leaseExpiresAt) {
+                return false;
+            }
+            int current;
+            do {
+                current = tokens.get();
+                if (current < cost) {
+                    return false;
+                }
+            } while (!tokens.compareAndSet(current, current - cost));
+            return true;
+        }
+
+        /**
+         * The Lua script's GCRA against this node's clock, used while Redis is unavailable
+         */
+        List<Long> localGcra(double interval, double tolerance, long requested, int refund, int minimum, long now) {
+            double tat = Math.max(localTat, now);
+            if (refund > 0) {
+                tat = Math.max(now, tat - refund * interval);
+            }
+
+            long available = Math.max((long) Math.floor((tolerance - (tat - now)) / interval), 0);
+            long granted = available >= minimum ? Math.min(requested, available) : 0;
+            localTat = tat + granted * interval;
+
+            if (granted > 0) {
+                return List.of(granted, available - granted, 0L);
+            }
+            return List.of(0L, available, (long) Math.ceil(localTat + minimum * interval - tolerance - now));
+        }
+    }
+}
@@ -4,23 +4,38 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import kr.ac.jbnu.cr.bookstore.security.JwtAuthentication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.StringJoiner;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Charges each request to every rate limit policy that matches it and rejects it with 429
+ * as soon as one policy is exhausted.
+ * Runs after JWT authentication so policies can key on the user and their role. The client
+ * IP is the servlet remote address, which Tomcat's RemoteIpValve resolves from
+ * X-Forwarded-For only for trusted proxies (server.tomcat.remoteip.internal-proxies).
+ * Quota is reported per policy in the RateLimit-Policy and RateLimit headers of the IETF
+ * draft, and X-RateLimit-Limit/Remaining describe the policy closest to its limit.
+ */
 @Component
 public class RateLimitingFilter extends OncePerRequestFilter {
 
-    private final StringRedisTemplate redisTemplate;
-    private static final int MAX_REQUESTS_PER_MINUTE = 100;
+    private final RateLimiter rateLimiter;
+    private final List<RateLimitPolicy> policies;
 
-    public RateLimitingFilter(StringRedisTemplate redisTemplate) {
-        this.redisTemplate = redisTemplate;
+    public RateLimitingFilter(RateLimiter rateLimiter, RateLimitProperties properties) {
+        this.rateLimiter = rateLimiter;
+        this.policies = List.copyOf(properties.getEffectivePolicies());
     }
 
     @Override
@@ -29,35 +44,75 @@ public class RateLimitingFilter extends OncePerRequestFilter {
                                     @NonNull FilterChain filterChain)
             throws ServletException, IOException {
 
-        String clientIp = getClientIp(request);
-        String key = "rate_limit:" + clientIp;
+        String method = request.getMethod();
+        String path = pathWithinApplication(request);
+        JwtAuthentication authentication = currentAuthentication();
 
-        Long count = redisTemplate.opsForValue().increment(key);
+        StringJoiner policyHeader = new StringJoiner(", ");
+        StringJoiner quotaHeader = new StringJoiner(", ");
+        RateLimitPolicy tightest = null;
+        long tightestRemaining = Long.MAX_VALUE;
 
-        // Prévention du NullPointerException par unboxing sécurisé
-        long requestCount = (count != null) ? count : 0;
+        for (RateLimitPolicy policy : policies) {
+            if (!policy.appliesTo(method, path, authentication)) {
+                continue;
+            }
+            int cost = policy.costOf(method, path);
+            if (cost <= 0) {
+                continue;
+            }
 
-        if (requestCount == 1) {
-            redisTemplate.expire(key, 1, TimeUnit.MINUTES);
-        }
+            String key = policy.keyFor(request.getRemoteAddr(), authentication);
+            RateLimiter.Decision decision = rateLimiter.acquire(policy, key, cost);
+            long windowSeconds = policy.getPeriod().toSeconds();
+            policyHeader.add("\"" + policy.getName() + "\";q=" + policy.getLimit() + ";w=" + windowSeconds);
+
+            if (!decision.isAllowed()) {
+                long retryAfter = TimeUnit.MILLISECONDS.toSeconds(decision.getRetryAfterMillis() + 999);
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setHeader("RateLimit-Policy", policyHeader.toString());
+                response.setHeader("RateLimit", "\"" + policy.getName() + "\";r=0;t=" + retryAfter);
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+                response.getWriter().write("Too many requests. Please try again later.");
+                return;
+            }
 
-        if (requestCount > MAX_REQUESTS_PER_MINUTE) {
-            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-            response.getWriter().write("Too many requests. Please try again later.");
-            return;
+            if (decision.getRemaining() >= 0) {
+                quotaHeader.add("\"" + policy.getName() + "\";r=" + decision.getRemaining());
+                if (decision.getRemaining() < tightestRemaining) {
+                    tightest = policy;
+                    tightestRemaining = decision.getRemaining();
+                }
+            }
         }
 
-        response.addHeader("X-RateLimit-Limit", String.valueOf(MAX_REQUESTS_PER_MINUTE));
-        response.addHeader("X-RateLimit-Remaining", String.valueOf(Math.max(0, MAX_REQUESTS_PER_MINUTE - requestCount)));
+        if (policyHeader.length() > 0) {
+            response.setHeader("RateLimit-Policy", policyHeader.toString());
+        }
+        if (tightest != null) {
+            response.setHeader("RateLimit", quotaHeader.toString());
+            response.setHeader("X-RateLimit-Limit", String.valueOf(tightest.getLimit()));
+            response.setHeader("X-RateLimit-Remaining", String.valueOf(tightestRemaining));
+        }
 
         filterChain.doFilter(request, response);
     }
 
-    private String getClientIp(HttpServletRequest request) {
-        String xfHeader = request.getHeader("X-Forwarded-For");
-        if (xfHeader == null) {
-            return request.getRemoteAddr();
+    /**
+     * Request URI without the context path, the form policy paths are written in
+     */
+    private static String pathWithinApplication(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        if (contextPath.isEmpty() || !uri.startsWith(contextPath)) {
+            return uri;
         }
-        return xfHeader.split(",")[0];
+        String path = uri.substring(contextPath.length());
+        return path.isEmpty() ? "/" : path;
+    }
+
+    private JwtAuthentication currentAuthentication() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication instanceof JwtAuthentication jwtAuthentication ? jwtAuthentication : null;
     }
-}
\ No newline at end of file
+}
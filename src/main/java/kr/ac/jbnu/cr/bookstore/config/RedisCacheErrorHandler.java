@@ -0,0 +1,51 @@
+package kr.ac.jbnu.cr.bookstore.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.dao.DataAccessException;
+import org.springframework.lang.NonNull;
+
+/**
+ * Treats cache failures that get past {@link ResilientCacheManager} as misses instead of
+ * failing the request, and reports Redis failures among them to the circuit breaker.
+ */
+public class RedisCacheErrorHandler implements CacheErrorHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisCacheErrorHandler.class);
+
+    private final RedisCircuitBreaker circuitBreaker;
+
+    public RedisCacheErrorHandler(RedisCircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public void handleCacheGetError(@NonNull RuntimeException exception, @NonNull Cache cache, @NonNull Object key) {
+        handle("get", exception, cache);
+    }
+
+    @Override
+    public void handleCachePutError(@NonNull RuntimeException exception, @NonNull Cache cache,
+                                    @NonNull Object key, Object value) {
+        handle("put", exception, cache);
+    }
+
+    @Override
+    public void handleCacheEvictError(@NonNull RuntimeException exception, @NonNull Cache cache, @NonNull Object key) {
+        handle("evict", exception, cache);
+    }
+
+    @Override
+    public void handleCacheClearError(@NonNull RuntimeException exception, @NonNull Cache cache) {
+        handle("clear", exception, cache);
+    }
+
+    private void handle(String operation, RuntimeException exception, Cache cache) {
+        logger.warn("Cache {} on '{}' failed: {}", operation, cache.getName(), exception.getMessage());
+        if (exception instanceof DataAccessException) {
+            circuitBreaker.recordFailure(exception);
+        }
+    }
+}
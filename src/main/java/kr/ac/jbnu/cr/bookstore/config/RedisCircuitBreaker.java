@@ -0,0 +1,166 @@
+package kr.ac.jbnu.cr.bookstore.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker in front of Redis calls that have a local fallback (cache, rate limiter).
+ * After failure-threshold consecutive failures or slow calls it opens and every call goes
+ * straight to the fallback without touching Redis. After open-duration a single trial call
+ * is let through: success closes the breaker, failure keeps it open for another period.
+ */
+@Component
+public class RedisCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    /**
+     * Notified after every state change, on the thread that caused it
+     */
+    public interface Listener {
+        void onStateChange(State from, State to);
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisCircuitBreaker.class);
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final long slowCallNanos;
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean trialInFlight = new AtomicBoolean();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final Counter fallbacks;
+    private volatile long openedAt;
+
+    public RedisCircuitBreaker(@Value("${app.redis.circuit.failure-threshold:5}") int failureThreshold,
+                               @Value("${app.redis.circuit.open-duration:10s}") Duration openDuration,
+                               @Value("${app.redis.circuit.slow-call-threshold:250ms}") Duration slowCallThreshold,
+                               MeterRegistry meterRegistry) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.slowCallNanos = slowCallThreshold.toNanos();
+        this.fallbacks = Counter.builder("redis.circuit.fallbacks").register(meterRegistry);
+        Gauge.builder("redis.circuit.open", state, current -> current.get() == State.CLOSED ? 0 : 1)
+                .register(meterRegistry);
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Run the Redis call if the breaker allows it, otherwise or when Redis fails run the fallback
+     */
+    public <T> T execute(Supplier<T> call, Supplier<T> fallback) {
+        if (!tryAcquire()) {
+            fallbacks.increment();
+            return fallback.get();
+        }
+
+        long start = System.nanoTime();
+        T result;
+        try {
+            result = call.get();
+        } catch (DataAccessException e) {
+            recordFailure(e);
+            fallbacks.increment();
+            return fallback.get();
+        } catch (RuntimeException e) {
+            // Not a Redis outage (e.g. serialization): leave the state alone and let the caller see it
+            trialInFlight.set(false);
+            throw e;
+        }
+        recordSuccess(System.nanoTime() - start);
+        return result;
+    }
+
+    public void run(Runnable call, Runnable fallback) {
+        execute(() -> {
+            call.run();
+            return null;
+        }, () -> {
+            fallback.run();
+            return null;
+        });
+    }
+
+    /**
+     * Report a failed Redis call made outside {@link #execute}
+     */
+    public void recordFailure(Exception e) {
+        State current = state.get();
+        if (current == State.HALF_OPEN) {
+            openedAt = System.nanoTime();
+            trialInFlight.set(false);
+            transition(State.HALF_OPEN, State.OPEN, e);
+        } else if (current == State.CLOSED && consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAt = System.nanoTime();
+            transition(State.CLOSED, State.OPEN, e);
+        }
+    }
+
+    private boolean tryAcquire() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos) {
+                return false;
+            }
+            transition(State.OPEN, State.HALF_OPEN, null);
+        }
+        // Half open: exactly one trial call at a time
+        return trialInFlight.compareAndSet(false, true);
+    }
+
+    private void recordSuccess(long elapsedNanos) {
+        if (elapsedNanos > slowCallNanos) {
+            recordFailure(new IllegalStateException("Redis call took " + elapsedNanos / 1_000_000 + "ms"));
+            return;
+        }
+        consecutiveFailures.set(0);
+        if (state.get() == State.HALF_OPEN) {
+            trialInFlight.set(false);
+            transition(State.HALF_OPEN, State.CLOSED, null);
+        }
+    }
+
+    private void transition(State from, State to, Exception cause) {
+        if (!state.compareAndSet(from, to)) {
+            return;
+        }
+        if (to == State.OPEN) {
+            logger.warn("Redis circuit opened, using local fallbacks: {}", cause != null ? cause.getMessage() : "");
+        } else if (to == State.CLOSED) {
+            consecutiveFailures.set(0);
+            logger.info("Redis circuit closed");
+        }
+        for (Listener listener : listeners) {
+            try {
+                listener.onStateChange(from, to);
+            } catch (RuntimeException e) {
+                logger.warn("Redis circuit listener failed: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -1,9 +1,99 @@
 package kr.ac.jbnu.cr.bookstore.config;
 
+import kr.ac.jbnu.cr.bookstore.service.OrderEventRelay;
+import kr.ac.jbnu.cr.bookstore.service.StatsService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
 
 @Configuration
 @EnableCaching
-public class RedisConfig {
-}
\ No newline at end of file
+public class RedisConfig implements CachingConfigurer {
+
+    private final ObjectProvider<RedisCacheManager> redisCacheManager;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final int fallbackMaxEntries;
+    private final Duration fallbackTtl;
+
+    public RedisConfig(ObjectProvider<RedisCacheManager> redisCacheManager,
+                       RedisCircuitBreaker circuitBreaker,
+                       @Value("${app.redis.fallback-cache.max-entries:1000}") int fallbackMaxEntries,
+                       @Value("${app.redis.fallback-cache.ttl:60s}") Duration fallbackTtl) {
+        this.redisCacheManager = redisCacheManager;
+        this.circuitBreaker = circuitBreaker;
+        this.fallbackMaxEntries = fallbackMaxEntries;
+        this.fallbackTtl = fallbackTtl;
+    }
+
+    /**
+     * Caching annotations go through the circuit breaker to Boot's RedisCacheManager, which
+     * stays a bean of its own so cache metrics still bind to it
+     */
+    @Override
+    public CacheManager cacheManager() {
+        RedisCacheManager delegate = redisCacheManager.getIfAvailable();
+        if (delegate == null) {
+            return null;
+        }
+        return new ResilientCacheManager(delegate, circuitBreaker, fallbackMaxEntries, fallbackTtl.toMillis());
+    }
+
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new RedisCacheErrorHandler(circuitBreaker);
+    }
+
+    /**
+     * Stats snapshots are cheap to rebuild from the rollups, so they only live briefly
+     */
+    @Bean
+    public RedisCacheManagerBuilderCustomizer statsCacheCustomizer(
+            @Value("${app.stats.cache-ttl:30s}") Duration statsTtl) {
+        return builder -> builder.withCacheConfiguration(StatsService.CACHE_NAME,
+                RedisCacheConfiguration.defaultCacheConfig().entryTtl(statsTtl));
+    }
+
+    /**
+     * Receives order events published by any node and hands them to the local SSE broadcaster.
+     * Not started with the context: a Redis outage only disables cross-node fan-out.
+     */
+    @Bean
+    public RedisMessageListenerContainer orderEventListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            OrderEventRelay orderEventRelay,
+            @Value("${app.redis.subscription.recovery-interval:5s}") Duration recoveryInterval) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer() {
+            @Override
+            public boolean isAutoStartup() {
+                // Started by orderEventSubscriptionStarter once Redis is reachable
+                return false;
+            }
+        };
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(new VirtualThreadTaskExecutor("order-events-"));
+        container.setRecoveryInterval(recoveryInterval.toMillis());
+        container.addMessageListener(orderEventRelay, new ChannelTopic(OrderEventRelay.CHANNEL));
+        return container;
+    }
+
+    @Bean
+    public RedisSubscriptionStarter orderEventSubscriptionStarter(
+            RedisMessageListenerContainer orderEventListenerContainer,
+            @Value("${app.redis.subscription.recovery-interval:5s}") Duration recoveryInterval) {
+        return new RedisSubscriptionStarter(orderEventListenerContainer, recoveryInterval);
+    }
+}
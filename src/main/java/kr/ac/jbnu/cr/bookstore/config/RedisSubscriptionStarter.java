@@ -0,0 +1,72 @@
+package kr.ac.jbnu.cr.bookstore.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+
+/**
+ * Starts a listener container in the background instead of during context refresh, so the
+ * application comes up while Redis is unreachable. The first subscription is retried every
+ * recovery interval until it succeeds; once subscribed, the container recovers dropped
+ * connections on its own.
+ */
+public class RedisSubscriptionStarter implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisSubscriptionStarter.class);
+
+    private final RedisMessageListenerContainer container;
+    private final Duration recoveryInterval;
+    private volatile boolean running;
+    private Thread thread;
+
+    public RedisSubscriptionStarter(RedisMessageListenerContainer container, Duration recoveryInterval) {
+        this.container = container;
+        this.recoveryInterval = recoveryInterval;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = Thread.ofVirtual().name("redis-subscription-starter").start(this::subscribe);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        container.stop();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    boolean isSubscribed() {
+        return container.isListening();
+    }
+
+    private void subscribe() {
+        while (running) {
+            try {
+                container.start();
+                logger.info("Subscribed to Redis channels");
+                return;
+            } catch (RuntimeException e) {
+                logger.warn("Redis subscription unavailable, retrying in {}: {}", recoveryInterval, e.getMessage());
+                // A failed start leaves the container marked as started
+                container.stop();
+            }
+            try {
+                Thread.sleep(recoveryInterval);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package kr.ac.jbnu.cr.bookstore.config;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free queue of request log entries: any number of request threads publish,
+ * a single writer drains. Slots are preallocated and reused, and each carries a sequence
+ * number telling whether it is free for the producer or ready for the consumer, so neither
+ * side takes a lock or allocates. When the writer falls behind, new entries are dropped.
+ */
+class RequestLogRingBuffer {
+
+    private final Entry[] slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    // Only touched by the single consumer
+    private long head;
+
+    RequestLogRingBuffer(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.slots = new Entry[capacity];
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Entry(i);
+        }
+    }
+
+    /**
+     * Publish an entry, returning false when the buffer is full
+     */
+    boolean offer(long requestId, long timestamp, String method, String uri, String query,
+                  int status, long durationMicros) {
+        long position = tail.get();
+        while (true) {
+            Entry entry = slots[(int) (position & mask)];
+            long difference = entry.sequence - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    entry.requestId = requestId;
+                    entry.timestamp = timestamp;
+                    entry.method = method;
+                    entry.uri = uri;
+                    entry.query = query;
+                    entry.status = status;
+                    entry.durationMicros = durationMicros;
+                    entry.sequence = position + 1;
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Hand up to max published entries to the consumer, in order; single consumer only.
+     * An entry must not be kept after the consumer returns, its slot is reused.
+     */
+    int drain(Consumer<Entry> consumer, int max) {
+        int drained = 0;
+        while (drained < max) {
+            Entry entry = slots[(int) (head & mask)];
+            if (entry.sequence != head + 1) {
+                break;
+            }
+            try {
+                consumer.accept(entry);
+            } finally {
+                entry.uri = null;
+                entry.query = null;
+                entry.sequence = head + slots.length;
+                head++;
+                drained++;
+            }
+        }
+        return drained;
+    }
+
+    static class Entry {
+
+        private volatile long sequence;
+        long requestId;
+        long timestamp;
+        String method;
+        String uri;
+        String query;
+        int status;
+        long durationMicros;
+
+        Entry(long sequence) {
+            this.sequence = sequence;
+        }
+    }
+}
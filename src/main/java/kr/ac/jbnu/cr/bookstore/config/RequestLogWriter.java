@@ -0,0 +1,153 @@
+package kr.ac.jbnu.cr.bookstore.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes request log entries from a background thread so request threads never format
+ * or wait on the appender. Entries are queued in a {@link RequestLogRingBuffer} and
+ * dropped (and counted) when it is full. Lines are plain text by default, or one JSON
+ * object per line with app.request-log.format=json.
+ */
+@Component
+public class RequestLogWriter implements SmartLifecycle {
+
+    public enum Format { TEXT, JSON }
+
+    // Same category as before the writer existed, so log configuration keeps applying
+    private static final Logger logger = LoggerFactory.getLogger(RequestLoggingFilter.class);
+    private static final int DRAIN_BATCH = 256;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final RequestLogRingBuffer buffer;
+    private final Format format;
+    private final Counter dropped;
+    // Only used by the writer thread
+    private final StringBuilder line = new StringBuilder(256);
+    private volatile boolean running;
+    private Thread thread;
+
+    public RequestLogWriter(@Value("${app.request-log.buffer-size:8192}") int bufferSize,
+                            @Value("${app.request-log.format:text}") String format,
+                            MeterRegistry meterRegistry) {
+        this.buffer = new RequestLogRingBuffer(bufferSize);
+        this.format = Format.valueOf(format.toUpperCase());
+        this.dropped = Counter.builder("request.log.dropped")
+                .description("Request log entries dropped because the writer fell behind")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queue one request for logging; never blocks
+     */
+    public void submit(long requestId, long timestamp, String method, String uri, String query,
+                       int status, long durationMicros) {
+        if (!buffer.offer(requestId, timestamp, method, uri, query, status, durationMicros)) {
+            dropped.increment();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = Thread.ofPlatform().name("request-log-writer").daemon().start(this::drainLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drainLoop() {
+        while (running) {
+            if (drain() == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        // Flush what was queued before shutdown
+        while (drain() > 0) {
+            // keep draining
+        }
+    }
+
+    int drain() {
+        return buffer.drain(this::write, DRAIN_BATCH);
+    }
+
+    private void write(RequestLogRingBuffer.Entry entry) {
+        logger.info("{}", format(entry));
+    }
+
+    String format(RequestLogRingBuffer.Entry entry) {
+        line.setLength(0);
+        if (format == Format.JSON) {
+            line.append("{\"timestamp\":\"").append(Instant.ofEpochMilli(entry.timestamp))
+                    .append("\",\"requestId\":\"").append(Long.toHexString(entry.requestId))
+                    .append("\",\"method\":\"").append(entry.method)
+                    .append("\",\"path\":");
+            appendJsonString(entry.uri);
+            line.append(",\"query\":");
+            appendJsonString(entry.query);
+            line.append(",\"status\":").append(entry.status)
+                    .append(",\"durationMs\":").append(entry.durationMicros / 1000.0)
+                    .append('}');
+        } else {
+            line.append('[').append(Long.toHexString(entry.requestId)).append("] ")
+                    .append(entry.method).append(' ').append(entry.uri);
+            if (entry.query != null) {
+                line.append('?').append(entry.query);
+            }
+            line.append(' ').append(entry.status)
+                    .append(" (").append(entry.durationMicros / 1000).append("ms)");
+        }
+        return line.toString();
+    }
+
+    private void appendJsonString(String value) {
+        if (value == null) {
+            line.append("null");
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> line.append("\\\"");
+                case '\\' -> line.append("\\\\");
+                case '\n' -> line.append("\\n");
+                case '\r' -> line.append("\\r");
+                case '\t' -> line.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        line.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        line.append(c);
+                    }
+                }
+            }
+        }
+        line.append('"');
+    }
+}
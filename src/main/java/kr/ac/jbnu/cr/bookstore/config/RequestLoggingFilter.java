@@ -4,47 +4,68 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.UUID;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Logs one line per completed request, handed to {@link RequestLogWriter} so the request
+ * thread neither formats nor writes it. Server errors and requests slower than
+ * app.request-log.slow-threshold are always logged, the rest at app.request-log.sample-rate.
+ * Request ids are a per-node counter, formatted only when the line is written.
+ */
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class RequestLoggingFilter extends OncePerRequestFilter {
 
-    private static final Logger logger = LoggerFactory.getLogger(RequestLoggingFilter.class);
+    private final RequestLogWriter writer;
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+    private final AtomicLong requestIds = new AtomicLong();
+
+    public RequestLoggingFilter(RequestLogWriter writer,
+                                @Value("${app.request-log.sample-rate:0.1}") double sampleRate,
+                                @Value("${app.request-log.slow-threshold:1s}") Duration slowThreshold) {
+        this.writer = writer;
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
-        String requestId = UUID.randomUUID().toString().substring(0, 8);
-        String method = request.getMethod();
-        String uri = request.getRequestURI();
-        String queryString = request.getQueryString();
-        String fullPath = queryString != null ? uri + "?" + queryString : uri;
-
-        long startTime = System.currentTimeMillis();
-
-        logger.info("[{}] --> {} {}", requestId, method, fullPath);
+        long requestId = requestIds.incrementAndGet();
+        long startTime = System.nanoTime();
+        int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
 
         try {
             filterChain.doFilter(request, response);
+            status = response.getStatus();
         } finally {
-            long duration = System.currentTimeMillis() - startTime;
-            int status = response.getStatus();
-
-            logger.info("[{}] <-- {} {} {} ({}ms)", requestId, method, fullPath, status, duration);
+            long duration = System.nanoTime() - startTime;
+            if (shouldLog(status, duration)) {
+                writer.submit(requestId, System.currentTimeMillis(), request.getMethod(), request.getRequestURI(),
+                        request.getQueryString(), status, duration / 1000);
+            }
         }
     }
 
+    private boolean shouldLog(int status, long durationNanos) {
+        return status >= 500
+                || durationNanos >= slowThresholdNanos
+                || sampleRate >= 1.0
+                || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getRequestURI();
@@ -52,4 +73,4 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
                 path.contains("/v3/api-docs") ||
                 path.equals("/api/health");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,215 @@
+package kr.ac.jbnu.cr.bookstore.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.lang.NonNull;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves the Redis caches through {@link RedisCircuitBreaker}. While Redis is unavailable,
+ * reads and writes go to a small in-memory cache per name instead of waiting on timeouts.
+ * Caches written or evicted during the outage are cleared in Redis once it recovers, since
+ * its copies may have missed those changes; the in-memory copies are dropped whenever the
+ * breaker opens anew so they never outlive one outage.
+ */
+public class ResilientCacheManager implements CacheManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResilientCacheManager.class);
+
+    private final CacheManager delegate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final int localMaxEntries;
+    private final long localTtlMillis;
+    private final Map<String, ResilientCache> caches = new ConcurrentHashMap<>();
+
+    public ResilientCacheManager(CacheManager delegate, RedisCircuitBreaker circuitBreaker,
+                                 int localMaxEntries, long localTtlMillis) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.localMaxEntries = localMaxEntries;
+        this.localTtlMillis = localTtlMillis;
+        circuitBreaker.addListener(this::onStateChange);
+    }
+
+    @Override
+    public Cache getCache(@NonNull String name) {
+        ResilientCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        return target != null ? caches.computeIfAbsent(name, key -> new ResilientCache(target)) : null;
+    }
+
+    @Override
+    @NonNull
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    private void onStateChange(RedisCircuitBreaker.State from, RedisCircuitBreaker.State to) {
+        if (from == RedisCircuitBreaker.State.CLOSED && to == RedisCircuitBreaker.State.OPEN) {
+            caches.values().forEach(cache -> cache.local.clear());
+        } else if (to == RedisCircuitBreaker.State.CLOSED) {
+            caches.values().forEach(ResilientCache::reconcile);
+        }
+    }
+
+    private class ResilientCache implements Cache {
+
+        private final Cache redis;
+        private final LocalCache local = new LocalCache(localMaxEntries, localTtlMillis);
+        private volatile boolean dirty;
+
+        ResilientCache(Cache redis) {
+            this.redis = redis;
+        }
+
+        @Override
+        @NonNull
+        public String getName() {
+            return redis.getName();
+        }
+
+        @Override
+        @NonNull
+        public Object getNativeCache() {
+            return redis.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(@NonNull Object key) {
+            return circuitBreaker.execute(() -> redis.get(key), () -> local.get(key));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T get(@NonNull Object key, Class<T> type) {
+            ValueWrapper wrapper = get(key);
+            Object value = wrapper != null ? wrapper.get() : null;
+            if (value != null && type != null && !type.isInstance(value)) {
+                throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+            }
+            return (T) value;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+            ValueWrapper wrapper = get(key);
+            if (wrapper != null) {
+                return (T) wrapper.get();
+            }
+            T value;
+            try {
+                value = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            put(key, value);
+            return value;
+        }
+
+        @Override
+        public void put(@NonNull Object key, Object value) {
+            circuitBreaker.run(() -> redis.put(key, value), () -> {
+                local.put(key, value);
+                dirty = true;
+            });
+        }
+
+        @Override
+        public void evict(@NonNull Object key) {
+            circuitBreaker.run(() -> redis.evict(key), () -> {
+                local.evict(key);
+                dirty = true;
+            });
+        }
+
+        @Override
+        public void clear() {
+            circuitBreaker.run(redis::clear, () -> {
+                local.clear();
+                dirty = true;
+            });
+        }
+
+        void reconcile() {
+            local.clear();
+            if (!dirty) {
+                return;
+            }
+            try {
+                redis.clear();
+                dirty = false;
+                logger.info("Cleared cache '{}' after Redis recovered", getName());
+            } catch (RuntimeException e) {
+                logger.warn("Failed to clear cache '{}' after Redis recovered: {}", getName(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Bounded LRU map with a fixed time to live per entry
+     */
+    private static class LocalCache {
+
+        private final int maxEntries;
+        private final long ttlMillis;
+        private final Map<Object, Entry> entries;
+
+        LocalCache(int maxEntries, long ttlMillis) {
+            this.maxEntries = maxEntries;
+            this.ttlMillis = ttlMillis;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                    return size() > LocalCache.this.maxEntries;
+                }
+            };
+        }
+
+        synchronized Cache.ValueWrapper get(Object key) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (System.currentTimeMillis() >= entry.expiresAt) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value;
+        }
+
+        synchronized void put(Object key, Object value) {
+            entries.put(key, new Entry(new SimpleValueWrapper(value), System.currentTimeMillis() + ttlMillis));
+        }
+
+        synchronized void evict(Object key) {
+            entries.remove(key);
+        }
+
+        synchronized void clear() {
+            entries.clear();
+        }
+
+        private static class Entry {
+
+            private final Cache.ValueWrapper value;
+            private final long expiresAt;
+
+            Entry(Cache.ValueWrapper value, long expiresAt) {
+                this.value = value;
+                this.expiresAt = expiresAt;
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package kr.ac.jbnu.cr.bookstore.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.ac.jbnu.cr.bookstore.security.FirebaseIdTokenVerifier;
+import kr.ac.jbnu.cr.bookstore.security.GoogleCertificateSource;
+import kr.ac.jbnu.cr.bookstore.security.IdTokenVerifier;
+import kr.ac.jbnu.cr.bookstore.security.LocalIdTokenIssuer;
+import kr.ac.jbnu.cr.bookstore.security.SigningKeySource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Social login ID token verification.
+ * app.auth.social.verifier=google (default) checks tokens against Google's cached signing
+ * certificates; local swaps in {@link LocalIdTokenIssuer} for tests and load tests.
+ */
+@Configuration
+public class SocialLoginConfig {
+
+    public static final String VERIFIER_PROPERTY = "app.auth.social.verifier";
+
+    @Bean
+    @ConditionalOnProperty(name = VERIFIER_PROPERTY, havingValue = "google", matchIfMissing = true)
+    public GoogleCertificateSource googleCertificateSource(
+            @Value("${app.auth.social.certificates-url:" + GoogleCertificateSource.CERTIFICATES_URL + "}") String url,
+            @Value("${app.auth.social.refresh-ahead:10m}") Duration refreshAhead,
+            @Value("${app.auth.social.min-refetch-interval:30s}") Duration minRefetchInterval,
+            ObjectMapper objectMapper) {
+        return new GoogleCertificateSource(url, refreshAhead, minRefetchInterval, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = VERIFIER_PROPERTY, havingValue = "local")
+    public LocalIdTokenIssuer localIdTokenIssuer(@Value("${app.auth.social.project-id}") String projectId) {
+        return new LocalIdTokenIssuer(projectId);
+    }
+
+    @Bean
+    public IdTokenVerifier idTokenVerifier(@Value("${app.auth.social.project-id}") String projectId,
+                                           SigningKeySource signingKeySource) {
+        return new FirebaseIdTokenVerifier(projectId, signingKeySource);
+    }
+}
@@ -0,0 +1,68 @@
+package kr.ac.jbnu.cr.bookstore.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.ac.jbnu.cr.bookstore.config.QueryStatsCollector;
+import kr.ac.jbnu.cr.bookstore.dto.response.ErrorResponse;
+import kr.ac.jbnu.cr.bookstore.dto.response.MessageResponse;
+import kr.ac.jbnu.cr.bookstore.dto.response.QueryDiagnosticsResponse;
+import kr.ac.jbnu.cr.bookstore.exception.BadRequestException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/diagnostics")
+@Tag(name = "Admin - Diagnostics", description = "Admin diagnostics API")
+public class AdminDiagnosticsController {
+
+    private static final int MAX_LIMIT = 500;
+
+    private final QueryStatsCollector queryStatsCollector;
+
+    public AdminDiagnosticsController(QueryStatsCollector queryStatsCollector) {
+        this.queryStatsCollector = queryStatsCollector;
+    }
+
+    @GetMapping("/queries")
+    @Operation(summary = "Get SQL statement timings by query shape (admin only)",
+            description = "Count, total time and percentiles per normalized statement since startup or the " +
+                    "last reset, and the most recent slow executions with their bind parameters.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Query statistics retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid limit",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Access denied",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<QueryDiagnosticsResponse> getQueryStats(
+            @Parameter(description = "Order shapes by total time, execution count or slowest execution")
+            @RequestParam(defaultValue = "TOTAL") QueryStatsCollector.Sort sort,
+            @Parameter(description = "Number of shapes to return, at most 500")
+            @RequestParam(defaultValue = "20") int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        return ResponseEntity.ok(queryStatsCollector.snapshot(sort, limit));
+    }
+
+    @DeleteMapping("/queries")
+    @Operation(summary = "Reset SQL statement timings (admin only)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Query statistics reset"),
+            @ApiResponse(responseCode = "403", description = "Access denied",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<MessageResponse> resetQueryStats() {
+        queryStatsCollector.reset();
+        return ResponseEntity.ok(MessageResponse.of("Query statistics reset"));
+    }
+}
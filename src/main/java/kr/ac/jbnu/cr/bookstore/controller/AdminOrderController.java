@@ -1,27 +1,41 @@
 package kr.ac.jbnu.cr.bookstore.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import kr.ac.jbnu.cr.bookstore.dto.request.OrderBulkStatusRequest;
 import kr.ac.jbnu.cr.bookstore.dto.request.OrderStatusUpdateRequest;
 import kr.ac.jbnu.cr.bookstore.dto.response.ErrorResponse;
+import kr.ac.jbnu.cr.bookstore.dto.response.OrderBulkStatusResponse;
 import kr.ac.jbnu.cr.bookstore.dto.response.OrderResponse;
 import kr.ac.jbnu.cr.bookstore.dto.response.PageResponse;
+import kr.ac.jbnu.cr.bookstore.model.ExportFormat;
 import kr.ac.jbnu.cr.bookstore.model.Order;
 import kr.ac.jbnu.cr.bookstore.model.OrderStatus;
+import kr.ac.jbnu.cr.bookstore.service.OrderEventBroadcaster;
+import kr.ac.jbnu.cr.bookstore.service.OrderExportService;
 import kr.ac.jbnu.cr.bookstore.service.OrderService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
 
 @RestController
@@ -30,9 +44,15 @@ import java.util.stream.Collectors;
 public class AdminOrderController {
 
     private final OrderService orderService;
+    private final OrderExportService orderExportService;
+    private final OrderEventBroadcaster orderEventBroadcaster;
 
-    public AdminOrderController(OrderService orderService) {
+    public AdminOrderController(OrderService orderService,
+                                OrderExportService orderExportService,
+                                OrderEventBroadcaster orderEventBroadcaster) {
         this.orderService = orderService;
+        this.orderExportService = orderExportService;
+        this.orderEventBroadcaster = orderEventBroadcaster;
     }
 
     @GetMapping
@@ -60,6 +80,91 @@ public class AdminOrderController {
         return ResponseEntity.ok(PageResponse.of(orders, content));
     }
 
+    @GetMapping("/export")
+    @Operation(summary = "Export orders with their items (admin only)",
+            description = "Streams one row per order item. Gzip-compressed when the client sends Accept-Encoding: gzip.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Export streamed successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid range",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Access denied",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @Parameter(description = "Created at or after, e.g. 2024-12-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Created before")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        orderExportService.validateRange(from, to);
+        boolean gzip = acceptsGzip(acceptEncoding);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("orders." + format.getExtension())
+                        .build()
+                        .toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        return response.body(out -> orderExportService.export(from, to, status, format, gzip, out));
+    }
+
+    /**
+     * Whether Accept-Encoding allows gzip: listed by name, or through "*" when gzip is not
+     * named, with a non-zero q value
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            boolean accepted = qualityOf(parts) > 0;
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                return accepted;
+            }
+            if (coding.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+
+    private static double qualityOf(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream new orders (admin only)",
+            description = "Server-Sent Events: one ORDER_CREATED event per order placed")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Event stream opened"),
+            @ApiResponse(responseCode = "403", description = "Access denied",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public SseEmitter streamNewOrders() {
+        return orderEventBroadcaster.subscribeAdmin();
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get order by ID (admin only)")
     @ApiResponses({
@@ -94,4 +199,20 @@ public class AdminOrderController {
         Order order = orderService.updateStatus(id, request.getStatus());
         return ResponseEntity.ok(OrderResponse.from(order));
     }
-}
\ No newline at end of file
+
+    @PatchMapping("/status")
+    @Operation(summary = "Update the status of many orders (admin only)",
+            description = "Applies the same status to every listed order. Unknown orders and invalid " +
+                    "transitions are reported per id and do not fail the rest of the batch.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Batch processed, see per-order results"),
+            @ApiResponse(responseCode = "400", description = "Validation error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Access denied",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<OrderBulkStatusResponse> updateOrderStatuses(
+            @Valid @RequestBody OrderBulkStatusRequest request) {
+        return ResponseEntity.ok(orderService.updateStatuses(request.getOrderIds(), request.getStatus()));
+    }
+}
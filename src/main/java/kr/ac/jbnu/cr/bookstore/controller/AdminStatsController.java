@@ -1,6 +1,7 @@
 package kr.ac.jbnu.cr.bookstore.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -8,34 +9,27 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import kr.ac.jbnu.cr.bookstore.dto.response.ErrorResponse;
 import kr.ac.jbnu.cr.bookstore.dto.response.StatsResponse;
-import kr.ac.jbnu.cr.bookstore.model.OrderStatus;
-import kr.ac.jbnu.cr.bookstore.repository.BookRepository;
-import kr.ac.jbnu.cr.bookstore.repository.ReviewRepository;
-import kr.ac.jbnu.cr.bookstore.repository.UserRepository;
-import kr.ac.jbnu.cr.bookstore.service.OrderService;
+import kr.ac.jbnu.cr.bookstore.dto.response.TimeSeriesResponse;
+import kr.ac.jbnu.cr.bookstore.model.RollupGranularity;
+import kr.ac.jbnu.cr.bookstore.service.StatsService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
+
 @RestController
 @RequestMapping("/admin/stats")
 @Tag(name = "Admin - Statistics", description = "Admin statistics API")
 public class AdminStatsController {
 
-    private final UserRepository userRepository;
-    private final BookRepository bookRepository;
-    private final ReviewRepository reviewRepository;
-    private final OrderService orderService;
+    private final StatsService statsService;
 
-    public AdminStatsController(UserRepository userRepository,
-                                BookRepository bookRepository,
-                                ReviewRepository reviewRepository,
-                                OrderService orderService) {
-        this.userRepository = userRepository;
-        this.bookRepository = bookRepository;
-        this.reviewRepository = reviewRepository;
-        this.orderService = orderService;
+    public AdminStatsController(StatsService statsService) {
+        this.statsService = statsService;
     }
 
     @GetMapping("/summary")
@@ -46,20 +40,27 @@ public class AdminStatsController {
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     public ResponseEntity<StatsResponse> getSummaryStats() {
-        StatsResponse stats = StatsResponse.builder()
-                .totalUsers(userRepository.count())
-                .totalBooks(bookRepository.count())
-                .totalOrders(orderService.countByStatus(OrderStatus.CREATED) +
-                        orderService.countByStatus(OrderStatus.PAID) +
-                        orderService.countByStatus(OrderStatus.SHIPPED) +
-                        orderService.countByStatus(OrderStatus.DELIVERED))
-                .todayOrders(orderService.countTodayOrders())
-                .totalSales(orderService.getTotalSales())
-                .todaySales(orderService.getTodaySales())
-                .pendingOrders(orderService.countByStatus(OrderStatus.CREATED))
-                .totalReviews(reviewRepository.count())
-                .build();
+        return ResponseEntity.ok(statsService.getSummary());
+    }
 
-        return ResponseEntity.ok(stats);
+    @GetMapping("/timeseries")
+    @Operation(summary = "Get order count and revenue over time (admin only)",
+            description = "Served from minute/hour/day rollups. The granularity is coarsened automatically " +
+                    "when the range is past its retention or would exceed 1000 points.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Time series retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid range",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Access denied",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<TimeSeriesResponse> getTimeSeries(
+            @Parameter(description = "Start of the range (inclusive), e.g. 2024-12-01T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the range (exclusive)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Preferred bucket size, defaults to the finest available")
+            @RequestParam(required = false) RollupGranularity granularity) {
+        return ResponseEntity.ok(statsService.getTimeSeries(from, to, granularity));
     }
-}
\ No newline at end of file
+}
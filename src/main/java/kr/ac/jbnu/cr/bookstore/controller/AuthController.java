@@ -14,9 +14,12 @@ import kr.ac.jbnu.cr.bookstore.dto.request.SocialLoginRequest;
 import kr.ac.jbnu.cr.bookstore.dto.response.AuthResponse;
 import kr.ac.jbnu.cr.bookstore.dto.response.ErrorResponse;
 import kr.ac.jbnu.cr.bookstore.dto.response.MessageResponse;
+import kr.ac.jbnu.cr.bookstore.security.JwtAuthentication;
 import kr.ac.jbnu.cr.bookstore.service.AuthService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -85,9 +88,16 @@ public class AuthController {
     }
 
     @PostMapping("/logout")
-    @Operation(summary = "Logout (client should discard token)")
+    @Operation(summary = "Logout, revoking the current access token and the given refresh token")
     @ApiResponse(responseCode = "200", description = "Logged out successfully")
-    public ResponseEntity<MessageResponse> logout() {
+    public ResponseEntity<MessageResponse> logout(@RequestBody(required = false) RefreshTokenRequest request) {
+        String accessToken = null;
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof JwtAuthentication jwtAuthentication) {
+            accessToken = (String) jwtAuthentication.getCredentials();
+        }
+
+        authService.logout(accessToken, request != null ? request.getRefreshToken() : null);
         return ResponseEntity.ok(MessageResponse.of("Logged out successfully"));
     }
 }
\ No newline at end of file
@@ -1,18 +1,22 @@
 package kr.ac.jbnu.cr.bookstore.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import kr.ac.jbnu.cr.bookstore.dto.request.CartBulkRequest;
 import kr.ac.jbnu.cr.bookstore.dto.request.CartItemRequest;
 import kr.ac.jbnu.cr.bookstore.dto.request.CartItemUpdateRequest;
+import kr.ac.jbnu.cr.bookstore.dto.response.CartDeltaResponse;
 import kr.ac.jbnu.cr.bookstore.dto.response.CartResponse;
 import kr.ac.jbnu.cr.bookstore.dto.response.ErrorResponse;
 import kr.ac.jbnu.cr.bookstore.dto.response.MessageResponse;
 import kr.ac.jbnu.cr.bookstore.model.Cart;
+import kr.ac.jbnu.cr.bookstore.model.CartItem;
 import kr.ac.jbnu.cr.bookstore.security.JwtAuthentication;
 import kr.ac.jbnu.cr.bookstore.service.CartService;
 import org.springframework.http.HttpStatus;
@@ -51,7 +55,8 @@ public class CartController {
     @PostMapping("/items")
     @Operation(summary = "Add item to cart")
     @ApiResponses({
-            @ApiResponse(responseCode = "201", description = "Item added to cart"),
+            @ApiResponse(responseCode = "201", description = "Item added to cart",
+                    content = @Content(schema = @Schema(oneOf = {CartResponse.class, CartDeltaResponse.class}))),
             @ApiResponse(responseCode = "400", description = "Validation error",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "401", description = "Unauthorized",
@@ -59,15 +64,40 @@ public class CartController {
             @ApiResponse(responseCode = "404", description = "Book not found",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<CartResponse> addItem(@Valid @RequestBody CartItemRequest request) {
+    public ResponseEntity<?> addItem(
+            @Valid @RequestBody CartItemRequest request,
+            @Parameter(description = "Return only the changed line and new totals")
+            @RequestParam(defaultValue = "false") boolean delta) {
         Cart cart = cartService.addItem(getCurrentUserId(), request);
+
+        if (delta) {
+            CartItem item = cart.findItemByBookId(request.getBookId()).orElseThrow();
+            return ResponseEntity.status(HttpStatus.CREATED).body(CartDeltaResponse.changed(cart, item));
+        }
         return ResponseEntity.status(HttpStatus.CREATED).body(CartResponse.from(cart));
     }
 
+    @PatchMapping("/items")
+    @Operation(summary = "Apply a batch of add/set/remove operations to the cart")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Operations applied successfully"),
+            @ApiResponse(responseCode = "400", description = "Validation error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Book not found or not in cart",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<CartResponse> applyBulk(@Valid @RequestBody CartBulkRequest request) {
+        Cart cart = cartService.applyBulk(getCurrentUserId(), request);
+        return ResponseEntity.ok(CartResponse.from(cart));
+    }
+
     @PutMapping("/items/{itemId}")
     @Operation(summary = "Update cart item quantity")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Item updated successfully"),
+            @ApiResponse(responseCode = "200", description = "Item updated successfully",
+                    content = @Content(schema = @Schema(oneOf = {CartResponse.class, CartDeltaResponse.class}))),
             @ApiResponse(responseCode = "400", description = "Validation error",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "401", description = "Unauthorized",
@@ -75,24 +105,39 @@ public class CartController {
             @ApiResponse(responseCode = "404", description = "Cart item not found",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<CartResponse> updateItem(
+    public ResponseEntity<?> updateItem(
             @PathVariable Long itemId,
-            @Valid @RequestBody CartItemUpdateRequest request) {
+            @Valid @RequestBody CartItemUpdateRequest request,
+            @Parameter(description = "Return only the changed line and new totals")
+            @RequestParam(defaultValue = "false") boolean delta) {
         Cart cart = cartService.updateItem(getCurrentUserId(), itemId, request);
+
+        if (delta) {
+            CartItem item = cart.findItem(itemId).orElseThrow();
+            return ResponseEntity.ok(CartDeltaResponse.changed(cart, item));
+        }
         return ResponseEntity.ok(CartResponse.from(cart));
     }
 
     @DeleteMapping("/items/{itemId}")
     @Operation(summary = "Remove item from cart")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Item removed successfully"),
+            @ApiResponse(responseCode = "200", description = "Item removed successfully",
+                    content = @Content(schema = @Schema(oneOf = {CartResponse.class, CartDeltaResponse.class}))),
             @ApiResponse(responseCode = "401", description = "Unauthorized",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "Cart item not found",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<CartResponse> removeItem(@PathVariable Long itemId) {
+    public ResponseEntity<?> removeItem(
+            @PathVariable Long itemId,
+            @Parameter(description = "Return only the removed line id and new totals")
+            @RequestParam(defaultValue = "false") boolean delta) {
         Cart cart = cartService.removeItem(getCurrentUserId(), itemId);
+
+        if (delta) {
+            return ResponseEntity.ok(CartDeltaResponse.removed(cart, itemId));
+        }
         return ResponseEntity.ok(CartResponse.from(cart));
     }
 
@@ -0,0 +1,40 @@
+package kr.ac.jbnu.cr.bookstore.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import kr.ac.jbnu.cr.bookstore.config.SocialLoginConfig;
+import kr.ac.jbnu.cr.bookstore.dto.request.LocalIdTokenRequest;
+import kr.ac.jbnu.cr.bookstore.dto.response.IdTokenResponse;
+import kr.ac.jbnu.cr.bookstore.security.LocalIdTokenIssuer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Mints social login ID tokens for load tests; only present with app.auth.social.verifier=local
+ */
+@RestController
+@RequestMapping("/auth")
+@ConditionalOnProperty(name = SocialLoginConfig.VERIFIER_PROPERTY, havingValue = "local")
+@Tag(name = "Authentication", description = "Authentication API")
+public class LocalIdTokenController {
+
+    private final LocalIdTokenIssuer localIdTokenIssuer;
+
+    public LocalIdTokenController(LocalIdTokenIssuer localIdTokenIssuer) {
+        this.localIdTokenIssuer = localIdTokenIssuer;
+    }
+
+    @PostMapping("/local-id-token")
+    @Operation(summary = "Issue a local ID token for POST /auth/google (local verifier only)")
+    @ApiResponse(responseCode = "200", description = "Token issued")
+    public ResponseEntity<IdTokenResponse> issue(@Valid @RequestBody LocalIdTokenRequest request) {
+        String token = localIdTokenIssuer.issue(request.getEmail(), request.getName());
+        return ResponseEntity.ok(new IdTokenResponse(token));
+    }
+}
@@ -1,27 +1,38 @@
 package kr.ac.jbnu.cr.bookstore.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.ac.jbnu.cr.bookstore.config.IdempotencyFilter;
 import kr.ac.jbnu.cr.bookstore.dto.response.ErrorResponse;
 import kr.ac.jbnu.cr.bookstore.dto.response.OrderResponse;
+import kr.ac.jbnu.cr.bookstore.dto.response.OrderSummaryResponse;
 import kr.ac.jbnu.cr.bookstore.dto.response.PageResponse;
 import kr.ac.jbnu.cr.bookstore.model.Order;
+import kr.ac.jbnu.cr.bookstore.model.OrderSummary;
+import kr.ac.jbnu.cr.bookstore.repository.OrderRepository;
 import kr.ac.jbnu.cr.bookstore.security.JwtAuthentication;
+import kr.ac.jbnu.cr.bookstore.service.OrderEventBroadcaster;
 import kr.ac.jbnu.cr.bookstore.service.OrderService;
+import kr.ac.jbnu.cr.bookstore.service.OrderSummaryService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestController
@@ -30,9 +41,15 @@ import java.util.stream.Collectors;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderSummaryService orderSummaryService;
+    private final OrderEventBroadcaster orderEventBroadcaster;
 
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService,
+                           OrderSummaryService orderSummaryService,
+                           OrderEventBroadcaster orderEventBroadcaster) {
         this.orderService = orderService;
+        this.orderSummaryService = orderSummaryService;
+        this.orderEventBroadcaster = orderEventBroadcaster;
     }
 
     private Long getCurrentUserId() {
@@ -41,19 +58,20 @@ public class OrderController {
     }
 
     @GetMapping
-    @Operation(summary = "Get my orders")
+    @Operation(summary = "Get my orders",
+            description = "Order history from the summary read model; use GET /orders/{id} for line items")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Orders retrieved successfully"),
             @ApiResponse(responseCode = "401", description = "Unauthorized",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<PageResponse<OrderResponse>> getMyOrders(
+    public ResponseEntity<PageResponse<OrderSummaryResponse>> getMyOrders(
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
 
-        Page<Order> orders = orderService.findByUserId(getCurrentUserId(), pageable);
+        Page<OrderSummary> orders = orderSummaryService.findByUserId(getCurrentUserId(), pageable);
 
-        List<OrderResponse> content = orders.getContent().stream()
-                .map(OrderResponse::from)
+        List<OrderSummaryResponse> content = orders.getContent().stream()
+                .map(OrderSummaryResponse::from)
                 .collect(Collectors.toList());
 
         return ResponseEntity.ok(PageResponse.of(orders, content));
@@ -75,13 +93,38 @@ public class OrderController {
         return ResponseEntity.ok(OrderResponse.from(order));
     }
 
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream order status changes",
+            description = "Server-Sent Events: an ORDER_STATUS event with the current status, then " +
+                    "ORDER_STATUS_CHANGED events as the order is fulfilled. Replaces polling GET /orders/{id}.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Event stream opened"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Access denied",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Order not found",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public SseEmitter streamOrderEvents(@PathVariable Long id) {
+        OrderRepository.StatusView order = orderService.findStatusForUser(getCurrentUserId(), id);
+        return orderEventBroadcaster.subscribeOrder(order.getId(),
+                Map.of("orderId", order.getId(), "status", order.getStatus()));
+    }
+
     @PostMapping
     @Operation(summary = "Create order from cart")
+    @Parameter(in = ParameterIn.HEADER, name = IdempotencyFilter.HEADER,
+            description = "Client-generated key; retries with the same key return the original order")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "Order created successfully"),
             @ApiResponse(responseCode = "400", description = "Cart is empty",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "401", description = "Unauthorized",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "Insufficient stock or request with the same key in progress",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "422", description = "Idempotency key reused for a different request",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     public ResponseEntity<OrderResponse> createOrder() {
@@ -0,0 +1,46 @@
+package kr.ac.jbnu.cr.bookstore.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartBulkRequest {
+
+    @NotEmpty(message = "Operations are required")
+    @Size(max = 100, message = "At most 100 operations per request")
+    private List<@Valid Operation> operations;
+
+    public enum Type {
+        ADD,
+        SET,
+        REMOVE
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Operation {
+
+        @NotNull(message = "Operation type is required")
+        private Type op;
+
+        @NotNull(message = "Book ID is required")
+        private Long bookId;
+
+        @Min(value = 1, message = "Quantity must be at least 1")
+        private Integer quantity;
+    }
+}
@@ -0,0 +1,26 @@
+package kr.ac.jbnu.cr.bookstore.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import kr.ac.jbnu.cr.bookstore.model.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderBulkStatusRequest {
+
+    @NotEmpty(message = "Order IDs are required")
+    @Size(max = 500, message = "At most 500 orders per request")
+    private List<@NotNull(message = "Order ID is required") Long> orderIds;
+
+    @NotNull(message = "Status is required")
+    private OrderStatus status;
+}
@@ -0,0 +1,60 @@
+package kr.ac.jbnu.cr.bookstore.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import kr.ac.jbnu.cr.bookstore.model.Cart;
+import kr.ac.jbnu.cr.bookstore.model.CartItem;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Changed cart line plus the new cart totals, returned instead of the full cart
+ * when a client only needs to patch its local copy.
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CartDeltaResponse implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private Long cartId;
+    private CartItemResponse item;
+    private Long removedItemId;
+    private int totalItems;
+    private BigDecimal totalAmount;
+    private LocalDateTime updatedAt;
+
+    public static CartDeltaResponse changed(Cart cart, CartItem item) {
+        return base(cart)
+                .item(CartItemResponse.from(item))
+                .build();
+    }
+
+    public static CartDeltaResponse removed(Cart cart, Long itemId) {
+        return base(cart)
+                .removedItemId(itemId)
+                .build();
+    }
+
+    private static CartDeltaResponseBuilder base(Cart cart) {
+        int totalItems = 0;
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        for (CartItem cartItem : cart.getItems()) {
+            totalItems += cartItem.getQuantity();
+            totalAmount = totalAmount.add(cartItem.getBook().getPrice()
+                    .multiply(BigDecimal.valueOf(cartItem.getQuantity())));
+        }
+
+        return CartDeltaResponse.builder()
+                .cartId(cart.getId())
+                .totalItems(totalItems)
+                .totalAmount(totalAmount)
+                .updatedAt(cart.getUpdatedAt());
+    }
+}
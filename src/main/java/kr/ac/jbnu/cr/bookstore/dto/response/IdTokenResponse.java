@@ -0,0 +1,14 @@
+package kr.ac.jbnu.cr.bookstore.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * ID token minted by the local issuer, in the shape POST /auth/google accepts
+ */
+@Getter
+@AllArgsConstructor
+public class IdTokenResponse {
+
+    private String token;
+}
@@ -0,0 +1,52 @@
+package kr.ac.jbnu.cr.bookstore.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import kr.ac.jbnu.cr.bookstore.model.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk status change, one result per requested order id in request order
+ */
+@Getter
+@Builder
+public class OrderBulkStatusResponse {
+
+    private OrderStatus status;
+    private int updated;
+    private int failed;
+    private List<Result> results;
+
+    public enum Outcome {
+        UPDATED,
+        NOT_FOUND,
+        INVALID_TRANSITION
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Result {
+
+        private Long orderId;
+        private Outcome outcome;
+        private OrderStatus previousStatus;
+        private String message;
+
+        public static Result updated(Long orderId, OrderStatus previousStatus) {
+            return new Result(orderId, Outcome.UPDATED, previousStatus, null);
+        }
+
+        public static Result notFound(Long orderId) {
+            return new Result(orderId, Outcome.NOT_FOUND, null, "Order not found with id: " + orderId);
+        }
+
+        public static Result invalidTransition(Long orderId, OrderStatus current, OrderStatus next) {
+            return new Result(orderId, Outcome.INVALID_TRANSITION, current,
+                    "Invalid status transition from " + current + " to " + next);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package kr.ac.jbnu.cr.bookstore.dto.response;
+
+import kr.ac.jbnu.cr.bookstore.model.OrderStatus;
+import kr.ac.jbnu.cr.bookstore.model.OrderSummary;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class OrderSummaryResponse implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+    private OrderStatus status;
+    private BigDecimal totalAmount;
+    private int itemCount;
+    private List<String> firstTitles;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static OrderSummaryResponse from(OrderSummary summary) {
+        return OrderSummaryResponse.builder()
+                .id(summary.getOrderId())
+                .status(summary.getStatus())
+                .totalAmount(summary.getTotalAmount())
+                .itemCount(summary.getItemCount())
+                .firstTitles(summary.getFirstTitles() == null || summary.getFirstTitles().isEmpty()
+                        ? List.of()
+                        : List.of(summary.getFirstTitles().split(OrderSummary.TITLE_SEPARATOR)))
+                .createdAt(summary.getCreatedAt())
+                .updatedAt(summary.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package kr.ac.jbnu.cr.bookstore.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * JDBC statement timings per SQL shape since startup or the last reset, with recent slow executions
+ */
+@Getter
+@Builder
+public class QueryDiagnosticsResponse implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private Instant since;
+    private long totalStatements;
+    private double totalMs;
+    private int trackedShapes;
+    private List<QueryShape> shapes;
+    private List<SlowQuery> slowQueries;
+
+    @Getter
+    @Builder
+    public static class QueryShape implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private String shape;
+        // Application method that first ran it, e.g. BookService.searchBooks
+        private String origin;
+        private long count;
+        private long errors;
+        private double totalMs;
+        private double meanMs;
+        private double p50Ms;
+        private double p95Ms;
+        private double p99Ms;
+        private double maxMs;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SlowQuery implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private String shape;
+        private String sql;
+        // Bind parameters per batch entry, long values truncated; null unless capture-parameters is on
+        private List<List<String>> parameters;
+        private double durationMs;
+        private boolean success;
+        private String origin;
+        private Instant executedAt;
+    }
+}
@@ -3,11 +3,16 @@ package kr.ac.jbnu.cr.bookstore.dto.response;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.math.BigDecimal;
 
 @Getter
 @Builder
-public class StatsResponse {
+public class StatsResponse implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     private long totalUsers;
     private long totalBooks;
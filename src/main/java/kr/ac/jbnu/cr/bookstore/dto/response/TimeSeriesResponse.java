@@ -0,0 +1,41 @@
+package kr.ac.jbnu.cr.bookstore.dto.response;
+
+import kr.ac.jbnu.cr.bookstore.model.RollupGranularity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Order count and revenue per bucket; every bucket in the range is present, empty ones as zero
+ */
+@Getter
+@Builder
+public class TimeSeriesResponse implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private RollupGranularity granularity;
+    private long bucketSeconds;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private List<Point> points;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Point implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private LocalDateTime bucketStart;
+        private long orders;
+        private BigDecimal revenue;
+    }
+}
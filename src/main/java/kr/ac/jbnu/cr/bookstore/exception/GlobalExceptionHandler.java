@@ -4,6 +4,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import kr.ac.jbnu.cr.bookstore.dto.response.ErrorResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -11,8 +12,10 @@ import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.NoHandlerFoundException;
 
 import java.util.HashMap;
@@ -32,6 +35,8 @@ public class GlobalExceptionHandler {
     private static final String CODE_VALIDATION_FAILED = "VALIDATION_FAILED";
     private static final String CODE_INTERNAL_ERROR = "INTERNAL_SERVER_ERROR";
     private static final String CODE_METHOD_NOT_ALLOWED = "METHOD_NOT_ALLOWED";
+    private static final String CODE_SERVICE_UNAVAILABLE = "SERVICE_UNAVAILABLE";
+    private static final String RETRY_AFTER_SECONDS = "1";
 
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleResourceNotFound(ResourceNotFoundException ex, HttpServletRequest request) {
@@ -63,6 +68,16 @@ public class GlobalExceptionHandler {
         return buildError(HttpStatus.BAD_REQUEST, CODE_BAD_REQUEST, ex.getMessage(), request);
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailable(ServiceUnavailableException ex, HttpServletRequest request) {
+        ResponseEntity<ErrorResponse> response = buildError(HttpStatus.SERVICE_UNAVAILABLE, CODE_SERVICE_UNAVAILABLE,
+                ex.getMessage(), request);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .contentType(PROBLEM_JSON)
+                .body(response.getBody());
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationErrors(MethodArgumentNotValidException ex, HttpServletRequest request) {
         Map<String, Object> fieldErrors = new HashMap<>();
@@ -90,6 +105,18 @@ public class GlobalExceptionHandler {
         return buildError(HttpStatus.BAD_REQUEST, CODE_BAD_REQUEST, "Request body is missing or malformed", request);
     }
 
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    public ResponseEntity<ErrorResponse> handleMissingParameter(MissingServletRequestParameterException ex, HttpServletRequest request) {
+        return buildError(HttpStatus.BAD_REQUEST, CODE_BAD_REQUEST,
+                "Required parameter '" + ex.getParameterName() + "' is missing", request);
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleTypeMismatch(MethodArgumentTypeMismatchException ex, HttpServletRequest request) {
+        return buildError(HttpStatus.BAD_REQUEST, CODE_BAD_REQUEST,
+                "Invalid value for parameter '" + ex.getName() + "'", request);
+    }
+
     @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
     public ResponseEntity<ErrorResponse> handleMethodNotAllowed(HttpRequestMethodNotSupportedException ex, HttpServletRequest request) {
         return buildError(HttpStatus.METHOD_NOT_ALLOWED, CODE_METHOD_NOT_ALLOWED,
@@ -0,0 +1,8 @@
+package kr.ac.jbnu.cr.bookstore.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -8,6 +8,7 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 @Entity
 @Table(name = "carts")
@@ -52,4 +53,16 @@ public class Cart {
     public void clearItems() {
         items.clear();
     }
+
+    public Optional<CartItem> findItem(Long itemId) {
+        return items.stream()
+                .filter(item -> item.getId() != null && item.getId().equals(itemId))
+                .findFirst();
+    }
+
+    public Optional<CartItem> findItemByBookId(Long bookId) {
+        return items.stream()
+                .filter(item -> item.getBook().getId().equals(bookId))
+                .findFirst();
+    }
 }
\ No newline at end of file
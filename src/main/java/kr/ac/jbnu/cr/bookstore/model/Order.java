@@ -36,6 +36,11 @@ public class Order {
     @Builder.Default
     private OrderStatus status = OrderStatus.CREATED;
 
+    // Whether stock is currently held for this order; orders from before reservations never held any
+    @Column(name = "stock_reserved", nullable = false)
+    @Builder.Default
+    private Boolean stockReserved = false;
+
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<OrderItem> items = new ArrayList<>();
@@ -0,0 +1,6 @@
+package kr.ac.jbnu.cr.bookstore.model;
+
+public enum OrderEventType {
+    ORDER_CREATED,
+    ORDER_STATUS_CHANGED
+}
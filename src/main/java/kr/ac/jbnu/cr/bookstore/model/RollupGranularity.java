@@ -0,0 +1,36 @@
+package kr.ac.jbnu.cr.bookstore.model;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Sales rollup bucket sizes, finest first
+ */
+public enum RollupGranularity {
+    MINUTE(ChronoUnit.MINUTES),
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    RollupGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    public LocalDateTime bucketStart(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    public Duration step() {
+        return unit.getDuration();
+    }
+
+    /**
+     * Next coarser granularity, or this one if it is already the coarsest
+     */
+    public RollupGranularity coarser() {
+        RollupGranularity[] values = values();
+        return ordinal() + 1 < values.length ? values[ordinal() + 1] : this;
+    }
+}
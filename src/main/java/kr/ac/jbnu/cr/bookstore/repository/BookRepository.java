@@ -5,6 +5,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -49,4 +50,13 @@ public interface BookRepository extends JpaRepository<Book, Long> {
 
     @EntityGraph(attributePaths = {"categories"})
     List<Book> findTop10ByIsActiveTrueOrderByViewCountDesc();
+
+    @Modifying
+    @Query("UPDATE Book b SET b.stockQuantity = b.stockQuantity - :quantity " +
+            "WHERE b.id = :bookId AND b.isActive = true AND b.stockQuantity >= :quantity")
+    int decrementStock(@Param("bookId") Long bookId, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("UPDATE Book b SET b.stockQuantity = b.stockQuantity + :quantity WHERE b.id = :bookId")
+    int incrementStock(@Param("bookId") Long bookId, @Param("quantity") int quantity);
 }
\ No newline at end of file
@@ -1,17 +1,22 @@
 package kr.ac.jbnu.cr.bookstore.repository;
 
+import jakarta.persistence.LockModeType;
 import kr.ac.jbnu.cr.bookstore.model.Order;
 import kr.ac.jbnu.cr.bookstore.model.OrderStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -20,27 +25,69 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     @EntityGraph(attributePaths = {"user", "items", "items.book"})
     Optional<Order> findWithDetailsById(Long id);
 
-    @EntityGraph(attributePaths = {"user", "items", "items.book"})
-    Page<Order> findByUserId(Long userId, Pageable pageable);
+    /*
+     * Paged listings run in two phases: page the order ids with LIMIT/OFFSET, then fetch
+     * the graphs of that page with one IN query. Combining a collection fetch with
+     * Pageable would make Hibernate paginate in memory (HHH000104).
+     */
 
-    @EntityGraph(attributePaths = {"user", "items", "items.book"})
-    Page<Order> findByStatus(OrderStatus status, Pageable pageable);
+    @Query("SELECT o.id FROM Order o")
+    Page<Long> findIds(Pageable pageable);
 
-    @EntityGraph(attributePaths = {"user", "items", "items.book"})
-    Page<Order> findByUserIdAndStatus(Long userId, OrderStatus status, Pageable pageable);
+    @Query("SELECT o.id FROM Order o WHERE o.user.id = :userId")
+    Page<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT o.id FROM Order o WHERE o.status = :status")
+    Page<Long> findIdsByStatus(@Param("status") OrderStatus status, Pageable pageable);
 
-    @Override
     @EntityGraph(attributePaths = {"user", "items", "items.book"})
-    Page<Order> findAll(Pageable pageable);
+    List<Order> findWithDetailsByIdIn(Collection<Long> ids);
+
+    /*
+     * Status checks (live status streams, bulk updates) read a projection instead of the
+     * order graph. Bulk updates lock the projection rows and apply the change with a single
+     * statement.
+     */
+
+    @Query("SELECT o.id AS id, o.user.id AS userId, o.status AS status, o.totalAmount AS totalAmount, " +
+            "o.createdAt AS createdAt FROM Order o WHERE o.id = :id")
+    Optional<StatusView> findStatusViewById(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o.id AS id, o.user.id AS userId, o.status AS status, o.totalAmount AS totalAmount, " +
+            "o.createdAt AS createdAt FROM Order o WHERE o.id IN :ids ORDER BY o.id")
+    List<StatusView> findStatusViewsForUpdate(@Param("ids") Collection<Long> ids);
+
+    // Only orders that still hold a stock reservation
+    @Query("SELECT i.book.id AS bookId, SUM(i.quantity) AS quantity FROM OrderItem i " +
+            "WHERE i.order.id IN :ids AND i.order.stockReserved = true GROUP BY i.book.id")
+    List<BookQuantity> sumReservedQuantitiesByBook(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE Order o SET o.stockReserved = false WHERE o.id IN :ids")
+    int clearStockReserved(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE Order o SET o.status = :status, o.updatedAt = :updatedAt WHERE o.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("status") OrderStatus status,
+                     @Param("updatedAt") LocalDateTime updatedAt);
+
+    interface StatusView {
+        Long getId();
+
+        Long getUserId();
+
+        OrderStatus getStatus();
 
-    long countByStatus(OrderStatus status);
+        BigDecimal getTotalAmount();
 
-    @Query("SELECT SUM(o.totalAmount) FROM Order o WHERE o.status != 'CANCELLED'")
-    BigDecimal getTotalSales();
+        LocalDateTime getCreatedAt();
+    }
 
-    @Query("SELECT SUM(o.totalAmount) FROM Order o WHERE o.createdAt BETWEEN :startDate AND :endDate AND o.status != 'CANCELLED'")
-    BigDecimal getSalesBetween(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+    interface BookQuantity {
+        Long getBookId();
 
-    @Query("SELECT COUNT(o) FROM Order o WHERE DATE(o.createdAt) = CURRENT_DATE")
-    long countTodayOrders();
-}
\ No newline at end of file
+        Long getQuantity();
+    }
+}
@@ -0,0 +1,22 @@
+package kr.ac.jbnu.cr.bookstore.repository;
+
+import kr.ac.jbnu.cr.bookstore.model.OrderStatus;
+import kr.ac.jbnu.cr.bookstore.model.OrderStatusCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+
+@Repository
+public interface OrderStatusCountRepository extends JpaRepository<OrderStatusCount, OrderStatus> {
+
+    @Modifying
+    @Query("UPDATE OrderStatusCount c SET c.orderCount = c.orderCount + :orders, " +
+            "c.totalAmount = c.totalAmount + :amount WHERE c.status = :status")
+    int increment(@Param("status") OrderStatus status,
+                  @Param("orders") long orders,
+                  @Param("amount") BigDecimal amount);
+}
@@ -0,0 +1,13 @@
+package kr.ac.jbnu.cr.bookstore.repository;
+
+import kr.ac.jbnu.cr.bookstore.model.OrderSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OrderSummaryRepository extends JpaRepository<OrderSummary, Long> {
+
+    Page<OrderSummary> findByUserId(Long userId, Pageable pageable);
+}
@@ -0,0 +1,35 @@
+package kr.ac.jbnu.cr.bookstore.repository;
+
+import kr.ac.jbnu.cr.bookstore.model.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Oldest pending event of each order only, so events of one order are never
+     * dispatched out of order or concurrently
+     */
+    @Query(value = "SELECT e.outbox_event_id FROM outbox_events e " +
+            "WHERE e.processed_at IS NULL AND e.failed_at IS NULL " +
+            "AND NOT EXISTS (SELECT 1 FROM outbox_events p WHERE p.aggregate_id = e.aggregate_id " +
+            "AND p.processed_at IS NULL AND p.failed_at IS NULL AND p.outbox_event_id < e.outbox_event_id) " +
+            "ORDER BY e.outbox_event_id LIMIT :limit", nativeQuery = true)
+    List<Long> findPendingHeadIds(@Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM outbox_events WHERE outbox_event_id = :id " +
+            "AND processed_at IS NULL AND failed_at IS NULL FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<OutboxEvent> lockPending(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,39 @@
+package kr.ac.jbnu.cr.bookstore.repository;
+
+import kr.ac.jbnu.cr.bookstore.model.RollupGranularity;
+import kr.ac.jbnu.cr.bookstore.model.SalesRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SalesRollupRepository extends JpaRepository<SalesRollup, Long> {
+
+    Optional<SalesRollup> findByGranularityAndBucketStart(RollupGranularity granularity, LocalDateTime bucketStart);
+
+    @Query("SELECT r FROM SalesRollup r WHERE r.granularity = :granularity " +
+            "AND r.bucketStart >= :from AND r.bucketStart < :to ORDER BY r.bucketStart")
+    List<SalesRollup> findRange(@Param("granularity") RollupGranularity granularity,
+                                @Param("from") LocalDateTime from,
+                                @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query("UPDATE SalesRollup r SET r.orderCount = r.orderCount + :orders, r.revenue = r.revenue + :revenue " +
+            "WHERE r.granularity = :granularity AND r.bucketStart = :bucketStart")
+    int increment(@Param("granularity") RollupGranularity granularity,
+                  @Param("bucketStart") LocalDateTime bucketStart,
+                  @Param("orders") long orders,
+                  @Param("revenue") BigDecimal revenue);
+
+    @Modifying
+    @Query("DELETE FROM SalesRollup r WHERE r.granularity = :granularity AND r.bucketStart < :before")
+    int deleteBefore(@Param("granularity") RollupGranularity granularity,
+                     @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,111 @@
+package kr.ac.jbnu.cr.bookstore.security;
+
+import kr.ac.jbnu.cr.bookstore.exception.ServiceUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Revoked access tokens that have not expired yet.
+ * Revocations live in Redis (a marker key per token id plus a sorted set scored by expiry),
+ * and every node keeps a Bloom filter of the sorted set rebuilt on an interval. The filter
+ * answers "not revoked" for almost every request without a network hop; only filter hits
+ * are confirmed against Redis. Revocations made on another node take effect here after at
+ * most one refresh interval. A revocation that cannot be stored fails with 503, so logout is
+ * never reported as done while the token still works.
+ */
+@Component
+public class AccessTokenBlocklist {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccessTokenBlocklist.class);
+    private static final String KEY_PREFIX = "revoked:access:";
+    private static final String INDEX_KEY = "revoked:access";
+
+    private final StringRedisTemplate redisTemplate;
+    private final int expectedEntries;
+    private final double falsePositiveRate;
+    private volatile BloomFilter filter;
+
+    public AccessTokenBlocklist(StringRedisTemplate redisTemplate,
+                                @Value("${app.auth.revocation.expected-entries:100000}") int expectedEntries,
+                                @Value("${app.auth.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedEntries, falsePositiveRate);
+    }
+
+    /**
+     * Revoke an access token until it expires
+     */
+    public void revoke(TokenClaims accessToken) {
+        if (accessToken.getTokenId() == null || accessToken.getExpiresAt() == null) {
+            return;
+        }
+
+        Duration ttl = Duration.between(Instant.now(), accessToken.getExpiresAt());
+        if (ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + accessToken.getTokenId(), "1", ttl);
+            redisTemplate.opsForZSet().add(INDEX_KEY, accessToken.getTokenId(),
+                    accessToken.getExpiresAt().toEpochMilli());
+        } catch (DataAccessException e) {
+            logger.warn("Failed to revoke access token {}: {}", accessToken.getTokenId(), e.getMessage());
+            throw new ServiceUnavailableException(RefreshTokenStore.UNAVAILABLE_MESSAGE);
+        }
+        filter.add(accessToken.getTokenId());
+    }
+
+    public boolean isRevoked(TokenClaims accessToken) {
+        String tokenId = accessToken.getTokenId();
+        if (tokenId == null || !filter.mightContain(tokenId)) {
+            return false;
+        }
+
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + tokenId));
+        } catch (Exception e) {
+            // Filter hit that cannot be confirmed: fail closed
+            logger.warn("Revocation check unavailable, rejecting token: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * Drop expired revocations and rebuild the local filter from the shared index
+     */
+    @Scheduled(fixedDelayString = "${app.auth.revocation.refresh-interval:5000}")
+    public void refresh() {
+        try {
+            long now = Instant.now().toEpochMilli();
+            redisTemplate.opsForZSet().removeRangeByScore(INDEX_KEY, Double.NEGATIVE_INFINITY, now);
+            Set<String> tokenIds = redisTemplate.opsForZSet().rangeByScore(INDEX_KEY, now, Double.POSITIVE_INFINITY);
+
+            int size = tokenIds != null ? tokenIds.size() : 0;
+            if (size > expectedEntries) {
+                logger.warn("{} revoked access tokens exceed the expected {}, false positive rate will rise",
+                        size, expectedEntries);
+            }
+
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, size), falsePositiveRate);
+            if (tokenIds != null) {
+                tokenIds.forEach(rebuilt::add);
+            }
+            filter = rebuilt;
+        } catch (Exception e) {
+            // Keep the previous filter; local revocations are already in it
+            logger.warn("Failed to refresh access token revocations: {}", e.getMessage());
+        }
+    }
+}
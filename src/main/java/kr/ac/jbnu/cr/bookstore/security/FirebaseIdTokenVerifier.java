@@ -0,0 +1,79 @@
+package kr.ac.jbnu.cr.bookstore.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import kr.ac.jbnu.cr.bookstore.exception.UnauthorizedException;
+
+import java.security.Key;
+import java.time.Instant;
+
+/**
+ * Verifies Firebase ID tokens locally following the Firebase Admin SDK rules: RS256 signed
+ * by a key of the source, issued by securetoken.google.com for the project, with the
+ * project as audience, a non-empty subject and an auth_time in the past.
+ * No network call is made here; key retrieval and caching are up to the {@link SigningKeySource}.
+ */
+public class FirebaseIdTokenVerifier implements IdTokenVerifier {
+
+    public static final String ISSUER_PREFIX = "https://securetoken.google.com/";
+
+    private static final String ALGORITHM = "RS256";
+    private static final long CLOCK_SKEW_SECONDS = 60;
+    private static final int MAX_SUBJECT_LENGTH = 128;
+
+    private final JwtParser parser;
+
+    public FirebaseIdTokenVerifier(String projectId, SigningKeySource keySource) {
+        if (projectId == null || projectId.isBlank()) {
+            throw new IllegalStateException("Social login requires app.auth.social.project-id");
+        }
+
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        if (!ALGORITHM.equals(header.getAlgorithm()) || header.getKeyId() == null) {
+                            throw new UnsupportedJwtException("ID token must be RS256 signed with a key id");
+                        }
+                        return keySource.getKey(header.getKeyId())
+                                .orElseThrow(() -> new UnsupportedJwtException("Unknown ID token key id"));
+                    }
+                })
+                .requireIssuer(ISSUER_PREFIX + projectId)
+                .requireAudience(projectId)
+                .clockSkewSeconds(CLOCK_SKEW_SECONDS)
+                .build();
+    }
+
+    @Override
+    public SocialIdentity verify(String idToken) {
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(idToken).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new UnauthorizedException("Invalid ID token: " + e.getMessage());
+        }
+
+        String uid = claims.getSubject();
+        if (uid == null || uid.isBlank() || uid.length() > MAX_SUBJECT_LENGTH) {
+            throw new UnauthorizedException("Invalid ID token: bad subject");
+        }
+
+        Number authTime = claims.get("auth_time", Number.class);
+        if (authTime == null || authTime.longValue() > Instant.now().getEpochSecond() + CLOCK_SKEW_SECONDS) {
+            throw new UnauthorizedException("Invalid ID token: bad auth_time");
+        }
+
+        String email = claims.get("email", String.class);
+        if (email == null || email.isBlank()) {
+            throw new UnauthorizedException("Invalid ID token: no email");
+        }
+
+        return new SocialIdentity(uid, email, claims.get("name", String.class));
+    }
+}
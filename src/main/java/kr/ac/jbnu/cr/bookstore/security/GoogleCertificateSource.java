@@ -0,0 +1,158 @@
+package kr.ac.jbnu.cr.bookstore.security;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.ac.jbnu.cr.bookstore.exception.ServiceUnavailableException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.PublicKey;
+import java.security.cert.CertificateFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Google's published ID token signing certificates, cached for as long as their
+ * Cache-Control max-age allows.
+ * A scheduled check fetches the next set shortly before the current one expires, so
+ * verification normally never waits on the network. A token with an unknown key id
+ * triggers one throttled refetch to pick up a rotation early, and a failed fetch keeps
+ * serving the previous keys.
+ */
+public class GoogleCertificateSource implements SigningKeySource {
+
+    public static final String CERTIFICATES_URL =
+            "https://www.googleapis.com/robot/v1/metadata/x509/securetoken@system.gserviceaccount.com";
+
+    private static final Logger logger = LoggerFactory.getLogger(GoogleCertificateSource.class);
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+    private static final Duration DEFAULT_MAX_AGE = Duration.ofHours(1);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+    private final URI certificatesUrl;
+    private final Duration refreshAhead;
+    private final Duration minRefetchInterval;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile KeySet keySet;
+    private volatile Instant lastAttempt = Instant.EPOCH;
+
+    public GoogleCertificateSource(String certificatesUrl, Duration refreshAhead, Duration minRefetchInterval,
+                                   ObjectMapper objectMapper) {
+        this.certificatesUrl = URI.create(certificatesUrl);
+        this.refreshAhead = refreshAhead;
+        this.minRefetchInterval = minRefetchInterval;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+    }
+
+    @Override
+    public Optional<PublicKey> getKey(String keyId) {
+        Instant now = Instant.now();
+        KeySet current = keySet;
+        if (current == null || !now.isBefore(current.getExpiresAt())) {
+            current = refresh(current);
+        }
+
+        PublicKey key = current.getKeys().get(keyId);
+        if (key == null && Duration.between(lastAttempt, now).compareTo(minRefetchInterval) >= 0) {
+            current = refresh(current);
+            key = current.getKeys().get(keyId);
+        }
+        return Optional.ofNullable(key);
+    }
+
+    /**
+     * Fetch the next certificates before the cached ones expire
+     */
+    @Scheduled(fixedDelayString = "${app.auth.social.key-refresh-check:60000}")
+    public void refreshIfStale() {
+        KeySet current = keySet;
+        if (current == null || Instant.now().plus(refreshAhead).isAfter(current.getExpiresAt())) {
+            try {
+                refresh(current);
+            } catch (ServiceUnavailableException e) {
+                // Already logged; the next check or login retries
+            }
+        }
+    }
+
+    private KeySet refresh(KeySet seen) {
+        refreshLock.lock();
+        try {
+            // Another thread refreshed while this one waited for the lock
+            if (keySet != seen) {
+                return keySet;
+            }
+
+            lastAttempt = Instant.now();
+            try {
+                keySet = fetch();
+                return keySet;
+            } catch (Exception e) {
+                logger.warn("Failed to fetch ID token certificates: {}", e.getMessage());
+                if (seen != null) {
+                    return seen;
+                }
+                throw new ServiceUnavailableException("Social login is temporarily unavailable");
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private KeySet fetch() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(certificatesUrl)
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Certificate endpoint returned " + response.statusCode());
+        }
+
+        Map<String, String> certificates = objectMapper.readValue(response.body(), new TypeReference<>() {});
+        CertificateFactory factory = CertificateFactory.getInstance("X.509");
+        Map<String, PublicKey> keys = new HashMap<>();
+        for (Map.Entry<String, String> entry : certificates.entrySet()) {
+            byte[] pem = entry.getValue().getBytes(StandardCharsets.UTF_8);
+            keys.put(entry.getKey(), factory.generateCertificate(new ByteArrayInputStream(pem)).getPublicKey());
+        }
+
+        Duration maxAge = response.headers().firstValue("Cache-Control")
+                .map(MAX_AGE::matcher)
+                .filter(Matcher::find)
+                .map(matcher -> Duration.ofSeconds(Long.parseLong(matcher.group(1))))
+                .orElse(DEFAULT_MAX_AGE);
+
+        logger.info("Loaded {} ID token certificates, valid for {}", keys.size(), maxAge);
+        return new KeySet(Map.copyOf(keys), Instant.now().plus(maxAge));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class KeySet {
+
+        private final Map<String, PublicKey> keys;
+        private final Instant expiresAt;
+    }
+}
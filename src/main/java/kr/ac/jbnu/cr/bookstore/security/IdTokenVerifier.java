@@ -0,0 +1,11 @@
+package kr.ac.jbnu.cr.bookstore.security;
+
+/**
+ * Verifies social login ID tokens.
+ * Implementations throw {@link kr.ac.jbnu.cr.bookstore.exception.UnauthorizedException}
+ * for any token that is not valid.
+ */
+public interface IdTokenVerifier {
+
+    SocialIdentity verify(String idToken);
+}
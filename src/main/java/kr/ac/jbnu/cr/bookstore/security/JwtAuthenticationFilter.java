@@ -15,9 +15,11 @@ import java.util.Optional;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
+    private final AccessTokenBlocklist accessTokenBlocklist;
 
-    public JwtAuthenticationFilter(JwtService jwtService) {
+    public JwtAuthenticationFilter(JwtService jwtService, AccessTokenBlocklist accessTokenBlocklist) {
         this.jwtService = jwtService;
+        this.accessTokenBlocklist = accessTokenBlocklist;
     }
 
     @Override
@@ -26,11 +28,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
 
         resolveToken(request).ifPresent(token ->
-                jwtService.getUser(token).ifPresent(userId -> {
-                    String role = jwtService.getRole(token).orElse("USER");
-                    JwtAuthentication authentication = new JwtAuthentication(userId, token, role);
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                })
+                jwtService.parse(token)
+                        // Refresh tokens are only accepted by /auth/refresh
+                        .filter(claims -> !claims.isRefreshToken())
+                        .filter(claims -> !accessTokenBlocklist.isRevoked(claims))
+                        .ifPresent(claims -> {
+                            String role = claims.getRole() != null ? claims.getRole() : "USER";
+                            JwtAuthentication authentication = new JwtAuthentication(claims.getUserId(), token, role);
+                            SecurityContextHolder.getContext().setAuthentication(authentication);
+                        })
         );
 
         filterChain.doFilter(request, response);
@@ -1,6 +1,8 @@
 package kr.ac.jbnu.cr.bookstore.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import kr.ac.jbnu.cr.bookstore.model.User;
@@ -9,13 +11,17 @@ import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Date;
 import java.util.Optional;
+import java.util.UUID;
 
 @Service
 public class JwtService {
 
     private final SecretKey key;
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokens;
     private final long expiration;
     private final long refreshExpiration;
     private final String issuer;
@@ -24,8 +30,12 @@ public class JwtService {
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.expiration}") long expiration,
             @Value("${jwt.refresh-expiration}") long refreshExpiration,
-            @Value("${jwt.issuer}") String issuer) {
+            @Value("${jwt.issuer}") String issuer,
+            @Value("${jwt.verified-cache-size:10000}") int verifiedCacheSize) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        // JwtParser is immutable and thread-safe: build it once instead of per call
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.verifiedTokens = new VerifiedTokenCache(verifiedCacheSize);
         this.expiration = expiration;
         this.refreshExpiration = refreshExpiration;
         this.issuer = issuer;
@@ -37,6 +47,7 @@ public class JwtService {
     public String createToken(User user) {
         return Jwts.builder()
                 .signWith(key)
+                .id(UUID.randomUUID().toString())
                 .subject(user.getId().toString())
                 .issuer(issuer)
                 .issuedAt(new Date())
@@ -47,51 +58,69 @@ public class JwtService {
     }
 
     /**
-     * Create refresh token
+     * Create refresh token starting a new rotation family
      */
     public String createRefreshToken(User user) {
+        return createRefreshToken(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Create refresh token replacing an earlier one of the same family
+     */
+    public String createRefreshToken(User user, String family) {
         return Jwts.builder()
                 .signWith(key)
+                .id(UUID.randomUUID().toString())
                 .subject(user.getId().toString())
                 .issuer(issuer)
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + refreshExpiration))
-                .claim("type", "refresh")
+                .claim("type", TokenClaims.REFRESH)
+                .claim("fam", family)
                 .compact();
     }
 
     /**
-     * Validate token and get user ID
+     * Verify token and extract its claims
+     * Verified tokens are remembered until they expire, so repeated requests with the
+     * same token skip signature verification and claim parsing.
      */
-    public Optional<Long> getUser(String token) {
-        try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+    public Optional<TokenClaims> parse(String token) {
+        Instant now = Instant.now();
+        String cacheKey = VerifiedTokenCache.keyOf(token);
+        TokenClaims cached = verifiedTokens.get(cacheKey, now);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
 
-            return Optional.of(Long.parseLong(claims.getSubject()));
-        } catch (Exception e) {
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            TokenClaims tokenClaims = new TokenClaims(
+                    claims.getId(),
+                    Long.parseLong(claims.getSubject()),
+                    claims.get("role", String.class),
+                    claims.get("type", String.class),
+                    claims.get("fam", String.class),
+                    claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+            verifiedTokens.put(cacheKey, tokenClaims);
+            return Optional.of(tokenClaims);
+        } catch (JwtException | IllegalArgumentException e) {
             return Optional.empty();
         }
     }
 
+    /**
+     * Validate token and get user ID
+     */
+    public Optional<Long> getUser(String token) {
+        return parse(token).map(TokenClaims::getUserId);
+    }
+
     /**
      * Get role from token
      */
     public Optional<String> getRole(String token) {
-        try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-
-            return Optional.ofNullable(claims.get("role", String.class));
-        } catch (Exception e) {
-            return Optional.empty();
-        }
+        return parse(token).map(TokenClaims::getRole);
     }
 
     /**
@@ -0,0 +1,62 @@
+package kr.ac.jbnu.cr.bookstore.security;
+
+import io.jsonwebtoken.Jwts;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * Stand-in for Google's token service in tests and load tests: mints Firebase-shaped ID tokens
+ * signed with a key pair generated at startup and serves that key to the verifier, so social
+ * login runs end to end without network access or a Firebase project.
+ */
+public class LocalIdTokenIssuer implements SigningKeySource {
+
+    public static final String KEY_ID = "local";
+
+    private static final Duration VALIDITY = Duration.ofHours(1);
+
+    private final String projectId;
+    private final KeyPair keyPair;
+
+    public LocalIdTokenIssuer(String projectId) {
+        this.projectId = projectId;
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            this.keyPair = generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Issue an ID token for the given account, using the email as uid
+     */
+    public String issue(String email, String name) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .header().keyId(KEY_ID).and()
+                .subject(email)
+                .issuer(FirebaseIdTokenVerifier.ISSUER_PREFIX + projectId)
+                .audience().add(projectId).and()
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plus(VALIDITY)))
+                .claim("auth_time", now.getEpochSecond())
+                .claim("email", email)
+                .claim("name", name)
+                .signWith(keyPair.getPrivate(), Jwts.SIG.RS256)
+                .compact();
+    }
+
+    @Override
+    public Optional<PublicKey> getKey(String keyId) {
+        return KEY_ID.equals(keyId) ? Optional.of(keyPair.getPublic()) : Optional.empty();
+    }
+}
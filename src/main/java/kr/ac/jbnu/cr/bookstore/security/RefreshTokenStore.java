@@ -0,0 +1,104 @@
+package kr.ac.jbnu.cr.bookstore.security;
+
+import kr.ac.jbnu.cr.bookstore.exception.ServiceUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Tracks the one live refresh token of each token family in Redis.
+ * A family starts at login and every refresh replaces its token id atomically. Presenting a
+ * token that was already rotated out means it leaked, so the whole family is revoked and the
+ * current holder has to log in again. Rotation and revocation cannot be decided without Redis,
+ * so while it is unreachable they fail with 503 instead of guessing.
+ */
+@Component
+public class RefreshTokenStore {
+
+    public enum Rotation { ROTATED, REUSED, UNKNOWN }
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenStore.class);
+    private static final String KEY_PREFIX = "refresh:family:";
+    static final String UNAVAILABLE_MESSAGE = "Session store is temporarily unavailable, try again shortly";
+
+    // 1 = rotated, -1 = stale token presented (family deleted), 0 = family unknown or expired
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if not current then
+                return 0
+            end
+            if current == ARGV[1] then
+                redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+                return 1
+            end
+            redis.call('DEL', KEYS[1])
+            return -1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RefreshTokenStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * Record the first token of a new family
+     */
+    public void track(TokenClaims refreshToken) {
+        try {
+            redisTemplate.opsForValue().set(key(refreshToken.getFamily()), refreshToken.getTokenId(),
+                    ttl(refreshToken));
+        } catch (Exception e) {
+            // Login still succeeds; the untracked token is simply rejected on refresh
+            logger.warn("Failed to track refresh token family {}: {}", refreshToken.getFamily(), e.getMessage());
+        }
+    }
+
+    /**
+     * Replace the presented token with its successor if it is still the live one of its family
+     */
+    public Rotation rotate(TokenClaims presented, TokenClaims next) {
+        Long result;
+        try {
+            result = redisTemplate.execute(ROTATE_SCRIPT, List.of(key(presented.getFamily())),
+                    presented.getTokenId(), next.getTokenId(), String.valueOf(ttl(next).toMillis()));
+        } catch (DataAccessException e) {
+            logger.warn("Failed to rotate refresh token family {}: {}", presented.getFamily(), e.getMessage());
+            throw new ServiceUnavailableException(UNAVAILABLE_MESSAGE);
+        }
+
+        if (result == null || result == 0) {
+            return Rotation.UNKNOWN;
+        }
+        return result > 0 ? Rotation.ROTATED : Rotation.REUSED;
+    }
+
+    /**
+     * Revoke every token of the family, e.g. on logout
+     */
+    public void revokeFamily(String family) {
+        try {
+            redisTemplate.delete(key(family));
+        } catch (DataAccessException e) {
+            logger.warn("Failed to revoke refresh token family {}: {}", family, e.getMessage());
+            throw new ServiceUnavailableException(UNAVAILABLE_MESSAGE);
+        }
+    }
+
+    private String key(String family) {
+        return KEY_PREFIX + family;
+    }
+
+    private Duration ttl(TokenClaims claims) {
+        Duration ttl = Duration.between(Instant.now(), claims.getExpiresAt());
+        return ttl.isNegative() || ttl.isZero() ? Duration.ofMillis(1) : ttl;
+    }
+}
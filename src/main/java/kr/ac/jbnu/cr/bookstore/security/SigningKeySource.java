@@ -0,0 +1,12 @@
+package kr.ac.jbnu.cr.bookstore.security;
+
+import java.security.PublicKey;
+import java.util.Optional;
+
+/**
+ * Public keys of an ID token issuer, looked up by key id
+ */
+public interface SigningKeySource {
+
+    Optional<PublicKey> getKey(String keyId);
+}
@@ -0,0 +1,16 @@
+package kr.ac.jbnu.cr.bookstore.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Identity asserted by a verified social login ID token
+ */
+@Getter
+@AllArgsConstructor
+public class SocialIdentity {
+
+    private final String uid;
+    private final String email;
+    private final String name;
+}
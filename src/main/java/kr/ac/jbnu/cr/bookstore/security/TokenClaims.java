@@ -0,0 +1,31 @@
+package kr.ac.jbnu.cr.bookstore.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Claims of a verified token, extracted once per token
+ */
+@Getter
+@AllArgsConstructor
+public class TokenClaims {
+
+    public static final String REFRESH = "refresh";
+
+    private final String tokenId;
+    private final Long userId;
+    private final String role;
+    private final String type;
+    private final String family;
+    private final Instant expiresAt;
+
+    public boolean isRefreshToken() {
+        return REFRESH.equals(type);
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,66 @@
+package kr.ac.jbnu.cr.bookstore.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU of recently verified tokens, keyed by the SHA-256 of the token
+ * so raw tokens are not kept in memory. Entries are dropped once the token expires.
+ */
+class VerifiedTokenCache {
+
+    private final Map<String, TokenClaims> entries;
+
+    VerifiedTokenCache(int maxSize) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TokenClaims> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    TokenClaims get(String key, Instant now) {
+        synchronized (entries) {
+            TokenClaims claims = entries.get(key);
+            if (claims != null && claims.isExpired(now)) {
+                entries.remove(key);
+                return null;
+            }
+            return claims;
+        }
+    }
+
+    void put(String key, TokenClaims claims) {
+        synchronized (entries) {
+            entries.put(key, claims);
+        }
+    }
+
+    void remove(String key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    static String keyOf(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,18 +1,23 @@
 package kr.ac.jbnu.cr.bookstore.service;
 
-import com.google.firebase.auth.FirebaseAuth;
-import com.google.firebase.auth.FirebaseAuthException;
-import com.google.firebase.auth.FirebaseToken;
 import kr.ac.jbnu.cr.bookstore.dto.request.LoginRequest;
 import kr.ac.jbnu.cr.bookstore.dto.request.RegisterRequest;
 import kr.ac.jbnu.cr.bookstore.dto.request.SocialLoginRequest;
 import kr.ac.jbnu.cr.bookstore.dto.response.AuthResponse;
 import kr.ac.jbnu.cr.bookstore.dto.response.UserResponse;
 import kr.ac.jbnu.cr.bookstore.exception.DuplicateResourceException;
+import kr.ac.jbnu.cr.bookstore.exception.ServiceUnavailableException;
 import kr.ac.jbnu.cr.bookstore.exception.UnauthorizedException;
 import kr.ac.jbnu.cr.bookstore.model.User;
 import kr.ac.jbnu.cr.bookstore.repository.UserRepository;
+import kr.ac.jbnu.cr.bookstore.security.AccessTokenBlocklist;
+import kr.ac.jbnu.cr.bookstore.security.IdTokenVerifier;
 import kr.ac.jbnu.cr.bookstore.security.JwtService;
+import kr.ac.jbnu.cr.bookstore.security.RefreshTokenStore;
+import kr.ac.jbnu.cr.bookstore.security.SocialIdentity;
+import kr.ac.jbnu.cr.bookstore.security.TokenClaims;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,16 +25,27 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class AuthService {
 
+    private static final Logger logger = LoggerFactory.getLogger(AuthService.class);
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final RefreshTokenStore refreshTokenStore;
+    private final AccessTokenBlocklist accessTokenBlocklist;
+    private final IdTokenVerifier idTokenVerifier;
 
     public AuthService(UserRepository userRepository,
                        PasswordEncoder passwordEncoder,
-                       JwtService jwtService) {
+                       JwtService jwtService,
+                       RefreshTokenStore refreshTokenStore,
+                       AccessTokenBlocklist accessTokenBlocklist,
+                       IdTokenVerifier idTokenVerifier) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtService = jwtService;
+        this.refreshTokenStore = refreshTokenStore;
+        this.accessTokenBlocklist = accessTokenBlocklist;
+        this.idTokenVerifier = idTokenVerifier;
     }
 
     @Transactional
@@ -48,7 +64,7 @@ public class AuthService {
         User savedUser = userRepository.save(user);
 
         String accessToken = jwtService.createToken(savedUser);
-        String refreshToken = jwtService.createRefreshToken(savedUser);
+        String refreshToken = issueRefreshToken(savedUser);
 
         return AuthResponse.of(
                 accessToken,
@@ -70,8 +86,10 @@ public class AuthService {
             throw new UnauthorizedException("Account is deactivated");
         }
 
+        rehashIfNeeded(user, request.getPassword());
+
         String accessToken = jwtService.createToken(user);
-        String refreshToken = jwtService.createRefreshToken(user);
+        String refreshToken = issueRefreshToken(user);
 
         return AuthResponse.of(
                 accessToken,
@@ -81,19 +99,37 @@ public class AuthService {
         );
     }
 
+    /**
+     * Exchange a refresh token for a new token pair, rotating the refresh token within its family
+     */
     public AuthResponse refresh(String refreshToken) {
-        Long userId = jwtService.getUser(refreshToken)
+        TokenClaims presented = jwtService.parse(refreshToken)
+                .filter(TokenClaims::isRefreshToken)
+                .filter(claims -> claims.getFamily() != null)
                 .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
 
-        User user = userRepository.findById(userId)
+        User user = userRepository.findById(presented.getUserId())
                 .orElseThrow(() -> new UnauthorizedException("User not found"));
 
         if (user.getIsActive() != null && !user.getIsActive()) {
             throw new UnauthorizedException("Account is deactivated");
         }
 
+        String newRefreshToken = jwtService.createRefreshToken(user, presented.getFamily());
+        TokenClaims next = jwtService.parse(newRefreshToken)
+                .orElseThrow(() -> new IllegalStateException("Issued refresh token failed verification"));
+
+        switch (refreshTokenStore.rotate(presented, next)) {
+            case REUSED -> {
+                logger.warn("Refresh token reuse detected for user {}, family {} revoked",
+                        user.getId(), presented.getFamily());
+                throw new UnauthorizedException("Refresh token has already been used");
+            }
+            case UNKNOWN -> throw new UnauthorizedException("Refresh token has been revoked");
+            case ROTATED -> { }
+        }
+
         String newAccessToken = jwtService.createToken(user);
-        String newRefreshToken = jwtService.createRefreshToken(user);
 
         return AuthResponse.of(
                 newAccessToken,
@@ -103,43 +139,78 @@ public class AuthService {
         );
     }
 
+    /**
+     * Revoke the current access token and, if given, the family of the refresh token
+     */
+    public void logout(String accessToken, String refreshToken) {
+        if (accessToken != null) {
+            jwtService.parse(accessToken)
+                    .filter(claims -> !claims.isRefreshToken())
+                    .ifPresent(accessTokenBlocklist::revoke);
+        }
+
+        if (refreshToken != null) {
+            jwtService.parse(refreshToken)
+                    .filter(TokenClaims::isRefreshToken)
+                    .filter(claims -> claims.getFamily() != null)
+                    .ifPresent(claims -> refreshTokenStore.revokeFamily(claims.getFamily()));
+        }
+    }
+
     @Transactional
     public AuthResponse socialLogin(SocialLoginRequest request) {
-        try {
-            FirebaseToken decodedToken = FirebaseAuth.getInstance().verifyIdToken(request.getToken());
+        SocialIdentity identity = idTokenVerifier.verify(request.getToken());
 
-            String email = decodedToken.getEmail();
-            String name = decodedToken.getName();
-            String uid = decodedToken.getUid();
+        String email = identity.getEmail();
+        String name = identity.getName();
+        String uid = identity.getUid();
 
-            User user = userRepository.findByEmail(email).orElse(null);
+        User user = userRepository.findByEmail(email).orElse(null);
 
-            if (user == null) {
-                user = User.builder()
-                        .email(email)
-                        .username(name != null ? name : "User_" + uid.substring(0, 5))
-                        .passwordHash(passwordEncoder.encode("SOCIAL_" + uid))
-                        .build();
+        if (user == null) {
+            user = User.builder()
+                    .email(email)
+                    .username(name != null ? name : "User_" + uid.substring(0, Math.min(5, uid.length())))
+                    .passwordHash(passwordEncoder.encode("SOCIAL_" + uid))
+                    .build();
 
-                user = userRepository.save(user);
-            }
+            user = userRepository.save(user);
+        }
 
-            if (user.getIsActive() != null && !user.getIsActive()) {
-                throw new UnauthorizedException("Account is deactivated");
-            }
+        if (user.getIsActive() != null && !user.getIsActive()) {
+            throw new UnauthorizedException("Account is deactivated");
+        }
+
+        String accessToken = jwtService.createToken(user);
+        String refreshToken = issueRefreshToken(user);
 
-            String accessToken = jwtService.createToken(user);
-            String refreshToken = jwtService.createRefreshToken(user);
+        return AuthResponse.of(
+                accessToken,
+                refreshToken,
+                jwtService.getExpiration(),
+                UserResponse.from(user)
+        );
+    }
 
-            return AuthResponse.of(
-                    accessToken,
-                    refreshToken,
-                    jwtService.getExpiration(),
-                    UserResponse.from(user)
-            );
+    private String issueRefreshToken(User user) {
+        String refreshToken = jwtService.createRefreshToken(user);
+        jwtService.parse(refreshToken).ifPresent(refreshTokenStore::track);
+        return refreshToken;
+    }
 
-        } catch (FirebaseAuthException e) {
-            throw new UnauthorizedException("Invalid Firebase Token: " + e.getMessage());
+    /**
+     * Rehash a verified password whose hash was made with a different cost than configured
+     */
+    private void rehashIfNeeded(User user, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(user.getPasswordHash())) {
+            return;
+        }
+        try {
+            user.setPasswordHash(passwordEncoder.encode(rawPassword));
+            userRepository.save(user);
+        } catch (ServiceUnavailableException e) {
+            // Hashing pool is saturated: keep the old hash and retry on a later login
+            logger.debug("Skipped password rehash for user {}", user.getId());
         }
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,9 @@
 package kr.ac.jbnu.cr.bookstore.service;
 
+import kr.ac.jbnu.cr.bookstore.dto.request.CartBulkRequest;
 import kr.ac.jbnu.cr.bookstore.dto.request.CartItemRequest;
 import kr.ac.jbnu.cr.bookstore.dto.request.CartItemUpdateRequest;
+import kr.ac.jbnu.cr.bookstore.exception.BadRequestException;
 import kr.ac.jbnu.cr.bookstore.exception.ResourceNotFoundException;
 import kr.ac.jbnu.cr.bookstore.model.Book;
 import kr.ac.jbnu.cr.bookstore.model.Cart;
@@ -14,7 +16,14 @@ import kr.ac.jbnu.cr.bookstore.repository.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class CartService {
@@ -62,24 +71,29 @@ public class CartService {
 
     /**
      * Add item to cart
+     * The cart aggregate is loaded once with its items and books, mutated in place
+     * and returned as-is, so the only extra statement is the insert or update itself.
      */
     @Transactional
     public Cart addItem(Long userId, CartItemRequest request) {
         Cart cart = getOrCreateCart(userId);
 
-        Book book = bookRepository.findByIdAndIsActiveTrue(request.getBookId())
-                .orElseThrow(() -> new ResourceNotFoundException("Book", request.getBookId()));
-
         // Check if item already exists in cart
-        Optional<CartItem> existingItem = cartItemRepository.findByCartIdAndBookId(cart.getId(), book.getId());
+        Optional<CartItem> existingItem = cart.findItemByBookId(request.getBookId());
 
         if (existingItem.isPresent()) {
-            // Update quantity
+            // Update quantity (book is already loaded with the cart)
             CartItem item = existingItem.get();
+            if (!Boolean.TRUE.equals(item.getBook().getIsActive())) {
+                throw new ResourceNotFoundException("Book", request.getBookId());
+            }
             item.setQuantity(item.getQuantity() + request.getQuantity());
             cartItemRepository.save(item);
         } else {
             // Add new item
+            Book book = bookRepository.findByIdAndIsActiveTrue(request.getBookId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Book", request.getBookId()));
+
             CartItem item = CartItem.builder()
                     .cart(cart)
                     .book(book)
@@ -90,7 +104,7 @@ public class CartService {
             cartItemRepository.save(item);
         }
 
-        return cartRepository.findByUserId(userId).orElse(cart);
+        return cart;
     }
 
     /**
@@ -100,18 +114,14 @@ public class CartService {
     public Cart updateItem(Long userId, Long itemId, CartItemUpdateRequest request) {
         Cart cart = getCart(userId);
 
-        CartItem item = cartItemRepository.findById(itemId)
+        // Only items of the user's own cart can be found here
+        CartItem item = cart.findItem(itemId)
                 .orElseThrow(() -> new ResourceNotFoundException("CartItem", itemId));
 
-        // Check ownership
-        if (!item.getCart().getId().equals(cart.getId())) {
-            throw new ResourceNotFoundException("CartItem", itemId);
-        }
-
         item.setQuantity(request.getQuantity());
         cartItemRepository.save(item);
 
-        return cartRepository.findByUserId(userId).orElse(cart);
+        return cart;
     }
 
     /**
@@ -121,18 +131,105 @@ public class CartService {
     public Cart removeItem(Long userId, Long itemId) {
         Cart cart = getCart(userId);
 
-        CartItem item = cartItemRepository.findById(itemId)
+        // Only items of the user's own cart can be found here
+        CartItem item = cart.findItem(itemId)
                 .orElseThrow(() -> new ResourceNotFoundException("CartItem", itemId));
 
-        // Check ownership
-        if (!item.getCart().getId().equals(cart.getId())) {
-            throw new ResourceNotFoundException("CartItem", itemId);
-        }
-
         cart.removeItem(item);
         cartItemRepository.delete(item);
 
-        return cartRepository.findByUserId(userId).orElse(cart);
+        return cart;
+    }
+
+    /**
+     * Apply a batch of add/set/remove operations in one transaction
+     * Books missing from the cart are loaded with a single findAllById, new lines
+     * are inserted with saveAll and removed lines deleted together at flush.
+     * A book removed and added back in the same batch keeps its existing line, so no
+     * second row for (cart, book) is inserted before the first one is deleted.
+     */
+    @Transactional
+    public Cart applyBulk(Long userId, CartBulkRequest request) {
+        Cart cart = getOrCreateCart(userId);
+        List<CartBulkRequest.Operation> operations = request.getOperations();
+
+        for (CartBulkRequest.Operation operation : operations) {
+            if (operation.getOp() != CartBulkRequest.Type.REMOVE && operation.getQuantity() == null) {
+                throw new BadRequestException("Quantity is required for " + operation.getOp()
+                        + " of book " + operation.getBookId());
+            }
+        }
+
+        // Load every referenced book that is not already part of the cart in one query
+        Set<Long> missingBookIds = operations.stream()
+                .filter(operation -> operation.getOp() != CartBulkRequest.Type.REMOVE)
+                .map(CartBulkRequest.Operation::getBookId)
+                .filter(bookId -> cart.findItemByBookId(bookId).isEmpty())
+                .collect(Collectors.toSet());
+
+        Map<Long, Book> books = missingBookIds.isEmpty()
+                ? Map.of()
+                : bookRepository.findAllById(missingBookIds).stream()
+                        .filter(book -> Boolean.TRUE.equals(book.getIsActive()))
+                        .collect(Collectors.toMap(Book::getId, Function.identity()));
+
+        List<CartItem> newItems = new ArrayList<>();
+        Map<Long, CartItem> removedItems = new LinkedHashMap<>();
+
+        for (CartBulkRequest.Operation operation : operations) {
+            Long bookId = operation.getBookId();
+            Optional<CartItem> existingItem = cart.findItemByBookId(bookId);
+
+            switch (operation.getOp()) {
+                case ADD, SET -> {
+                    if (existingItem.isPresent()) {
+                        CartItem item = existingItem.get();
+                        if (!Boolean.TRUE.equals(item.getBook().getIsActive())) {
+                            throw new ResourceNotFoundException("Book", bookId);
+                        }
+                        item.setQuantity(operation.getOp() == CartBulkRequest.Type.ADD
+                                ? item.getQuantity() + operation.getQuantity()
+                                : operation.getQuantity());
+                    } else if (removedItems.containsKey(bookId)) {
+                        // Removed earlier in this batch: bring the persistent line back
+                        CartItem item = removedItems.remove(bookId);
+                        if (!Boolean.TRUE.equals(item.getBook().getIsActive())) {
+                            throw new ResourceNotFoundException("Book", bookId);
+                        }
+                        item.setQuantity(operation.getQuantity());
+                        cart.addItem(item);
+                    } else {
+                        Book book = books.get(bookId);
+                        if (book == null) {
+                            throw new ResourceNotFoundException("Book", bookId);
+                        }
+
+                        CartItem item = CartItem.builder()
+                                .cart(cart)
+                                .book(book)
+                                .quantity(operation.getQuantity())
+                                .build();
+
+                        cart.addItem(item);
+                        newItems.add(item);
+                    }
+                }
+                case REMOVE -> {
+                    CartItem item = existingItem
+                            .orElseThrow(() -> new ResourceNotFoundException("Book not in cart: " + bookId));
+
+                    cart.removeItem(item);
+                    if (!newItems.remove(item)) {
+                        removedItems.put(bookId, item);
+                    }
+                }
+            }
+        }
+
+        cartItemRepository.saveAll(newItems);
+        cartItemRepository.deleteAll(List.copyOf(removedItems.values()));
+
+        return cart;
     }
 
     /**
@@ -0,0 +1,47 @@
+package kr.ac.jbnu.cr.bookstore.service;
+
+import kr.ac.jbnu.cr.bookstore.exception.StateConflictException;
+import kr.ac.jbnu.cr.bookstore.repository.BookRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+public class InventoryService {
+
+    private final BookRepository bookRepository;
+
+    public InventoryService(BookRepository bookRepository) {
+        this.bookRepository = bookRepository;
+    }
+
+    /**
+     * Reserve stock for every book of an order
+     * Each line is a conditional UPDATE (stock >= quantity), so no row is read or locked
+     * up front and concurrent buyers only contend for the duration of the statement's
+     * row lock. Books are updated in id order to keep lock acquisition deadlock-free.
+     * Must run inside the caller's transaction so a failed line rolls back the others.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reserve(Map<Long, Integer> quantitiesByBookId) {
+        for (Map.Entry<Long, Integer> entry : new TreeMap<>(quantitiesByBookId).entrySet()) {
+            int updated = bookRepository.decrementStock(entry.getKey(), entry.getValue());
+            if (updated == 0) {
+                throw new StateConflictException("Insufficient stock for book with id: " + entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * Return previously reserved stock (order cancellation)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(Map<Long, Integer> quantitiesByBookId) {
+        for (Map.Entry<Long, Integer> entry : new TreeMap<>(quantitiesByBookId).entrySet()) {
+            bookRepository.incrementStock(entry.getKey(), entry.getValue());
+        }
+    }
+}
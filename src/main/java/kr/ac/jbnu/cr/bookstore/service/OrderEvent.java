@@ -0,0 +1,87 @@
+package kr.ac.jbnu.cr.bookstore.service;
+
+import kr.ac.jbnu.cr.bookstore.model.Order;
+import kr.ac.jbnu.cr.bookstore.model.OrderEventType;
+import kr.ac.jbnu.cr.bookstore.model.OrderItem;
+import kr.ac.jbnu.cr.bookstore.model.OrderStatus;
+import kr.ac.jbnu.cr.bookstore.repository.OrderRepository;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Order change recorded in the outbox and delivered to {@link OrderEventHandler}s
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderEvent {
+
+    static final int MAX_TITLES = 3;
+
+    private Long eventId;
+    private OrderEventType type;
+    private Long orderId;
+    private Long userId;
+    private OrderStatus status;
+    private OrderStatus previousStatus;
+    private BigDecimal totalAmount;
+    private int itemCount;
+    private List<String> titles;
+    private LocalDateTime orderCreatedAt;
+    private LocalDateTime occurredAt;
+
+    public static OrderEvent created(Order order) {
+        return OrderEvent.builder()
+                .type(OrderEventType.ORDER_CREATED)
+                .orderId(order.getId())
+                .userId(order.getUser().getId())
+                .status(order.getStatus())
+                .totalAmount(order.getTotalAmount())
+                .itemCount(order.getItems().stream().mapToInt(OrderItem::getQuantity).sum())
+                .titles(order.getItems().stream()
+                        .limit(MAX_TITLES)
+                        .map(item -> item.getBook().getTitle())
+                        .toList())
+                .orderCreatedAt(order.getCreatedAt())
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    public static OrderEvent statusChanged(Order order, OrderStatus previousStatus) {
+        return OrderEvent.builder()
+                .type(OrderEventType.ORDER_STATUS_CHANGED)
+                .orderId(order.getId())
+                .userId(order.getUser().getId())
+                .status(order.getStatus())
+                .previousStatus(previousStatus)
+                .totalAmount(order.getTotalAmount())
+                .orderCreatedAt(order.getCreatedAt())
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    public static OrderEvent statusChanged(OrderRepository.StatusView order, OrderStatus status) {
+        return OrderEvent.builder()
+                .type(OrderEventType.ORDER_STATUS_CHANGED)
+                .orderId(order.getId())
+                .userId(order.getUserId())
+                .status(status)
+                .previousStatus(order.getStatus())
+                .totalAmount(order.getTotalAmount())
+                .orderCreatedAt(order.getCreatedAt())
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    OrderEvent withEventId(Long eventId) {
+        this.eventId = eventId;
+        return this;
+    }
+}
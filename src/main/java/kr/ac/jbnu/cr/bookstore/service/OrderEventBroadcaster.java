@@ -0,0 +1,156 @@
+package kr.ac.jbnu.cr.bookstore.service;
+
+import kr.ac.jbnu.cr.bookstore.model.OrderEventType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushes order events to Server-Sent Event subscribers on this node
+ * Every subscription gets its own virtual thread draining a bounded queue, so an idle
+ * connection is a parked virtual thread and a slow client only delays itself. A client
+ * that falls QUEUE_CAPACITY events behind is disconnected and expected to reconnect.
+ */
+@Service
+public class OrderEventBroadcaster {
+
+    static final int QUEUE_CAPACITY = 64;
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderEventBroadcaster.class);
+
+    private final Map<Long, Set<Subscription>> orderSubscriptions = new ConcurrentHashMap<>();
+    private final Set<Subscription> adminSubscriptions = ConcurrentHashMap.newKeySet();
+    private final Duration timeout;
+    private final Duration heartbeatInterval;
+
+    public OrderEventBroadcaster(@Value("${app.sse.timeout:30m}") Duration timeout,
+                                 @Value("${app.sse.heartbeat-interval:15s}") Duration heartbeatInterval) {
+        this.timeout = timeout;
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    /**
+     * Subscribe to the events of one order, starting with its current state
+     */
+    public SseEmitter subscribeOrder(Long orderId, Object snapshot) {
+        Subscription subscription = new Subscription(() ->
+                orderSubscriptions.computeIfPresent(orderId, (id, current) -> {
+                    current.removeIf(Subscription::isClosed);
+                    return current.isEmpty() ? null : current;
+                }));
+        subscription.offer(SseEmitter.event().name("ORDER_STATUS").data(snapshot, MediaType.APPLICATION_JSON));
+        orderSubscriptions.compute(orderId, (id, current) -> {
+            Set<Subscription> subscriptions = current != null ? current : ConcurrentHashMap.newKeySet();
+            subscriptions.add(subscription);
+            return subscriptions;
+        });
+        return subscription.start();
+    }
+
+    /**
+     * Subscribe to newly created orders
+     */
+    public SseEmitter subscribeAdmin() {
+        Subscription subscription = new Subscription(() -> adminSubscriptions.removeIf(Subscription::isClosed));
+        adminSubscriptions.add(subscription);
+        return subscription.start();
+    }
+
+    /**
+     * Deliver an event to the local subscribers of its order, and new orders to admins
+     */
+    public void broadcast(OrderEvent event) {
+        Set<Subscription> subscriptions = orderSubscriptions.get(event.getOrderId());
+        if (subscriptions != null) {
+            subscriptions.forEach(subscription -> subscription.offer(toSse(event)));
+        }
+        if (event.getType() == OrderEventType.ORDER_CREATED) {
+            adminSubscriptions.forEach(subscription -> subscription.offer(toSse(event)));
+        }
+    }
+
+    int subscriberCount() {
+        return adminSubscriptions.size() + orderSubscriptions.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private static SseEmitter.SseEventBuilder toSse(OrderEvent event) {
+        SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                .name(event.getType().name())
+                .data(event, MediaType.APPLICATION_JSON);
+        return event.getEventId() != null ? builder.id(event.getEventId().toString()) : builder;
+    }
+
+    private final class Subscription implements Runnable {
+
+        private final SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final Runnable onClose;
+        private volatile boolean closed;
+        private Thread thread;
+
+        Subscription(Runnable onClose) {
+            this.onClose = onClose;
+        }
+
+        SseEmitter start() {
+            emitter.onCompletion(this::close);
+            emitter.onTimeout(() -> {
+                close();
+                emitter.complete();
+            });
+            emitter.onError(error -> close());
+            thread = Thread.ofVirtual().name("sse-subscriber").start(this);
+            return emitter;
+        }
+
+        void offer(SseEmitter.SseEventBuilder event) {
+            if (!closed && !queue.offer(event)) {
+                logger.debug("SSE subscriber fell behind, disconnecting");
+                close();
+                emitter.complete();
+            }
+        }
+
+        boolean isClosed() {
+            return closed;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!closed) {
+                    SseEmitter.SseEventBuilder event = queue.poll(heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+                    // Heartbeat comments keep proxies from dropping idle connections and reveal dead clients
+                    emitter.send(event != null ? event : SseEmitter.event().comment("keepalive"));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                close();
+            }
+        }
+
+        private void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            onClose.run();
+            if (thread != null && thread != Thread.currentThread()) {
+                thread.interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package kr.ac.jbnu.cr.bookstore.service;
+
+/**
+ * In-process consumer of order events dispatched from the outbox.
+ * Delivery is at-least-once and in order per order id; a handler that throws makes
+ * the event (and the later events of the same order) retry on the next poll, so
+ * implementations must be idempotent.
+ */
+public interface OrderEventHandler {
+
+    void handle(OrderEvent event);
+}
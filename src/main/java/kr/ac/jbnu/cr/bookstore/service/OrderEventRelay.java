@@ -0,0 +1,74 @@
+package kr.ac.jbnu.cr.bookstore.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+
+/**
+ * Fans order events out to every node through Redis pub/sub
+ * The outbox delivers each event to a single node; that node publishes it after the
+ * dispatch transaction commits and every node, itself included, pushes it to its own
+ * SSE subscribers. If Redis is unavailable the event is only pushed locally.
+ */
+@Service
+public class OrderEventRelay implements OrderEventHandler, MessageListener {
+
+    public static final String CHANNEL = "orders:events";
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderEventRelay.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final OrderEventBroadcaster broadcaster;
+
+    public OrderEventRelay(StringRedisTemplate redisTemplate,
+                           ObjectMapper objectMapper,
+                           OrderEventBroadcaster broadcaster) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.broadcaster = broadcaster;
+    }
+
+    @Override
+    public void handle(OrderEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(event);
+                }
+            });
+        } else {
+            publish(event);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            broadcaster.broadcast(objectMapper.readValue(message.getBody(), OrderEvent.class));
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable order event message: {}", e.getMessage());
+        }
+    }
+
+    private void publish(OrderEvent event) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize order event " + event.getEventId(), e);
+        } catch (Exception e) {
+            logger.warn("Order event fan-out unavailable, pushing locally only: {}", e.getMessage());
+            broadcaster.broadcast(event);
+        }
+    }
+}
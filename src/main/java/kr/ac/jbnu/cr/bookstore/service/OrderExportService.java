@@ -0,0 +1,234 @@
+package kr.ac.jbnu.cr.bookstore.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.ac.jbnu.cr.bookstore.exception.BadRequestException;
+import kr.ac.jbnu.cr.bookstore.model.ExportFormat;
+import kr.ac.jbnu.cr.bookstore.model.OrderStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams orders, one row per order item, straight from a forward-only JDBC cursor
+ * Rows are written as they are read through a fixed-size buffer, so memory use does not
+ * depend on the number of orders exported.
+ */
+@Service
+public class OrderExportService {
+
+    static final String[] COLUMNS = {
+            "order_id", "created_at", "status", "user_id", "user_email", "order_total",
+            "order_item_id", "book_id", "isbn", "title", "quantity", "unit_price", "line_total"
+    };
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public OrderExportService(JdbcTemplate jdbcTemplate,
+                              ObjectMapper objectMapper,
+                              @Value("${app.export.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Validate export range before the response is committed
+     */
+    public void validateRange(LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new BadRequestException("'from' must be before 'to'");
+        }
+    }
+
+    /**
+     * Write orders created in [from, to) with the given status (all if null) to the stream
+     */
+    public void export(LocalDateTime from, LocalDateTime to, OrderStatus status,
+                       ExportFormat format, boolean gzip, OutputStream out) throws IOException {
+        validateRange(from, to);
+
+        OutputStream target = gzip ? new GZIPOutputStream(out, CHUNK_SIZE) : out;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), CHUNK_SIZE);
+        RowWriter rowWriter = format == ExportFormat.NDJSON ? new NdjsonRowWriter(writer) : new CsvRowWriter(writer);
+
+        List<Object> params = new ArrayList<>();
+        String sql = buildQuery(from, to, status, params);
+
+        try {
+            rowWriter.start();
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(sql,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                // Connector/J only streams row by row with MIN_VALUE, otherwise it buffers the whole result
+                boolean mysql = "MySQL".equals(connection.getMetaData().getDatabaseProductName());
+                statement.setFetchSize(mysql ? Integer.MIN_VALUE : fetchSize);
+                for (int i = 0; i < params.size(); i++) {
+                    statement.setObject(i + 1, params.get(i));
+                }
+                return statement;
+            }, (RowCallbackHandler) rs -> {
+                try {
+                    rowWriter.write(rs);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            rowWriter.finish();
+        } catch (UncheckedIOException e) {
+            // Client disconnected mid-export
+            throw e.getCause();
+        }
+
+        writer.flush();
+        if (target instanceof GZIPOutputStream gzipStream) {
+            gzipStream.finish();
+        }
+    }
+
+    private static String buildQuery(LocalDateTime from, LocalDateTime to, OrderStatus status, List<Object> params) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT o.order_id, o.created_at, o.status, u.user_id, u.email, o.total_amount,
+                       oi.order_item_id, b.book_id, b.isbn, b.title, oi.quantity, oi.unit_price, oi.total_price
+                FROM orders o
+                JOIN users u ON u.user_id = o.user_id
+                JOIN order_items oi ON oi.order_id = o.order_id
+                JOIN books b ON b.book_id = oi.book_id
+                WHERE 1 = 1""");
+        if (from != null) {
+            sql.append(" AND o.created_at >= ?");
+            params.add(from);
+        }
+        if (to != null) {
+            sql.append(" AND o.created_at < ?");
+            params.add(to);
+        }
+        if (status != null) {
+            sql.append(" AND o.status = ?");
+            params.add(status.name());
+        }
+        return sql.append(" ORDER BY o.order_id, oi.order_item_id").toString();
+    }
+
+    private interface RowWriter {
+
+        default void start() throws IOException {
+        }
+
+        void write(ResultSet rs) throws SQLException, IOException;
+
+        default void finish() throws IOException {
+        }
+    }
+
+    private static class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void start() throws IOException {
+            writer.write(String.join(",", COLUMNS));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            for (int i = 1; i <= COLUMNS.length; i++) {
+                if (i > 1) {
+                    writer.write(',');
+                }
+                writeField(format(rs.getObject(i)));
+            }
+            writer.write("\r\n");
+        }
+
+        private void writeField(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                    && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        private static String format(Object value) {
+            if (value == null) {
+                return null;
+            }
+            if (value instanceof BigDecimal decimal) {
+                return decimal.toPlainString();
+            }
+            if (value instanceof Timestamp timestamp) {
+                return timestamp.toLocalDateTime().toString();
+            }
+            return value.toString();
+        }
+    }
+
+    private class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(Writer writer) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(writer);
+            // One object per line: the newline is written explicitly, not the default space separator
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            generator.writeStartObject();
+            generator.writeNumberField(COLUMNS[0], rs.getLong(1));
+            generator.writeStringField(COLUMNS[1], rs.getObject(2, LocalDateTime.class).toString());
+            generator.writeStringField(COLUMNS[2], rs.getString(3));
+            generator.writeNumberField(COLUMNS[3], rs.getLong(4));
+            generator.writeStringField(COLUMNS[4], rs.getString(5));
+            generator.writeNumberField(COLUMNS[5], rs.getBigDecimal(6));
+            generator.writeNumberField(COLUMNS[6], rs.getLong(7));
+            generator.writeNumberField(COLUMNS[7], rs.getLong(8));
+            generator.writeStringField(COLUMNS[8], rs.getString(9));
+            generator.writeStringField(COLUMNS[9], rs.getString(10));
+            generator.writeNumberField(COLUMNS[10], rs.getInt(11));
+            generator.writeNumberField(COLUMNS[11], rs.getBigDecimal(12));
+            generator.writeNumberField(COLUMNS[12], rs.getBigDecimal(13));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package kr.ac.jbnu.cr.bookstore.service;
 
+import kr.ac.jbnu.cr.bookstore.dto.response.OrderBulkStatusResponse;
 import kr.ac.jbnu.cr.bookstore.exception.BadRequestException;
 import kr.ac.jbnu.cr.bookstore.exception.ForbiddenException;
 import kr.ac.jbnu.cr.bookstore.exception.ResourceNotFoundException;
@@ -15,7 +16,14 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class OrderService {
@@ -24,15 +32,21 @@ public class OrderService {
     private final CartRepository cartRepository;
     private final UserRepository userRepository;
     private final CartService cartService;
+    private final InventoryService inventoryService;
+    private final OutboxService outboxService;
 
     public OrderService(OrderRepository orderRepository,
                         CartRepository cartRepository,
                         UserRepository userRepository,
-                        CartService cartService) {
+                        CartService cartService,
+                        InventoryService inventoryService,
+                        OutboxService outboxService) {
         this.orderRepository = orderRepository;
         this.cartRepository = cartRepository;
         this.userRepository = userRepository;
         this.cartService = cartService;
+        this.inventoryService = inventoryService;
+        this.outboxService = outboxService;
     }
 
     /**
@@ -56,25 +70,51 @@ public class OrderService {
         return order;
     }
 
+    /**
+     * Find order status by ID for user, without loading the order graph
+     */
+    public OrderRepository.StatusView findStatusForUser(Long userId, Long orderId) {
+        OrderRepository.StatusView order = orderRepository.findStatusViewById(orderId)
+                .orElseThrow(() -> new ResourceNotFoundException("Order", orderId));
+
+        if (!order.getUserId().equals(userId)) {
+            throw new ForbiddenException("You can only view your own orders");
+        }
+
+        return order;
+    }
+
     /**
      * Find orders by user
      */
     public Page<Order> findByUserId(Long userId, Pageable pageable) {
-        return orderRepository.findByUserId(userId, pageable);
+        return withDetails(orderRepository.findIdsByUserId(userId, pageable));
     }
 
     /**
      * Find orders by status
      */
     public Page<Order> findByStatus(OrderStatus status, Pageable pageable) {
-        return orderRepository.findByStatus(status, pageable);
+        return withDetails(orderRepository.findIdsByStatus(status, pageable));
     }
 
     /**
      * Find all orders (admin)
      */
     public Page<Order> findAll(Pageable pageable) {
-        return orderRepository.findAll(pageable);
+        return withDetails(orderRepository.findIds(pageable));
+    }
+
+    /**
+     * Load the graphs of a page of order ids with one IN query, keeping the page order
+     */
+    private Page<Order> withDetails(Page<Long> ids) {
+        Map<Long, Order> orders = ids.isEmpty()
+                ? Map.of()
+                : orderRepository.findWithDetailsByIdIn(ids.getContent()).stream()
+                        .collect(Collectors.toMap(Order::getId, Function.identity()));
+
+        return ids.map(orders::get);
     }
 
     /**
@@ -93,6 +133,10 @@ public class OrderService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", userId));
 
+        // Reserve stock (rolled back with the order if any line is short)
+        inventoryService.reserve(cart.getItems().stream()
+                .collect(Collectors.toMap(item -> item.getBook().getId(), CartItem::getQuantity, Integer::sum)));
+
         // Calculate total amount
         BigDecimal totalAmount = BigDecimal.ZERO;
         for (CartItem cartItem : cart.getItems()) {
@@ -106,6 +150,7 @@ public class OrderService {
                 .user(user)
                 .totalAmount(totalAmount)
                 .status(OrderStatus.CREATED)
+                .stockReserved(true)
                 .build();
 
         // Create order items from cart items
@@ -123,6 +168,9 @@ public class OrderService {
 
         Order savedOrder = orderRepository.save(order);
 
+        // Downstream side effects are dispatched asynchronously from the outbox
+        outboxService.orderCreated(savedOrder);
+
         // Clear cart after order
         cartService.clearCart(userId);
 
@@ -139,8 +187,62 @@ public class OrderService {
         // Validate status transition
         validateStatusTransition(order.getStatus(), newStatus);
 
+        if (newStatus == OrderStatus.CANCELLED) {
+            releaseStock(order);
+        }
+
+        OrderStatus previousStatus = order.getStatus();
         order.setStatus(newStatus);
-        return orderRepository.save(order);
+        Order savedOrder = orderRepository.save(order);
+
+        outboxService.orderStatusChanged(savedOrder, previousStatus);
+        return savedOrder;
+    }
+
+    /**
+     * Update the status of many orders at once (admin only)
+     * Transitions are checked against a locked projection and applied with a single UPDATE,
+     * so no order graph is loaded. Unknown ids and invalid transitions are reported per id
+     * instead of failing the whole batch.
+     */
+    @Transactional
+    public OrderBulkStatusResponse updateStatuses(Collection<Long> orderIds, OrderStatus newStatus) {
+        Set<Long> ids = new LinkedHashSet<>(orderIds);
+        Map<Long, OrderRepository.StatusView> views = orderRepository.findStatusViewsForUpdate(ids).stream()
+                .collect(Collectors.toMap(OrderRepository.StatusView::getId, Function.identity()));
+
+        List<OrderBulkStatusResponse.Result> results = new ArrayList<>(ids.size());
+        List<OrderRepository.StatusView> accepted = new ArrayList<>();
+        for (Long id : ids) {
+            OrderRepository.StatusView view = views.get(id);
+            if (view == null) {
+                results.add(OrderBulkStatusResponse.Result.notFound(id));
+            } else if (!isValidTransition(view.getStatus(), newStatus)) {
+                results.add(OrderBulkStatusResponse.Result.invalidTransition(id, view.getStatus(), newStatus));
+            } else {
+                results.add(OrderBulkStatusResponse.Result.updated(id, view.getStatus()));
+                accepted.add(view);
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            List<Long> acceptedIds = accepted.stream().map(OrderRepository.StatusView::getId).toList();
+            if (newStatus == OrderStatus.CANCELLED) {
+                inventoryService.release(orderRepository.sumReservedQuantitiesByBook(acceptedIds).stream()
+                        .collect(Collectors.toMap(OrderRepository.BookQuantity::getBookId,
+                                line -> line.getQuantity().intValue())));
+                orderRepository.clearStockReserved(acceptedIds);
+            }
+            orderRepository.updateStatus(acceptedIds, newStatus, LocalDateTime.now());
+            accepted.forEach(view -> outboxService.orderStatusChanged(view, newStatus));
+        }
+
+        return OrderBulkStatusResponse.builder()
+                .status(newStatus)
+                .updated(accepted.size())
+                .failed(results.size() - accepted.size())
+                .results(results)
+                .build();
     }
 
     /**
@@ -155,56 +257,42 @@ public class OrderService {
             throw new StateConflictException("Cannot cancel order with status: " + order.getStatus());
         }
 
-        order.setStatus(OrderStatus.CANCELLED);
-        return orderRepository.save(order);
-    }
-
-    /**
-     * Validate status transition
-     */
-    private void validateStatusTransition(OrderStatus current, OrderStatus next) {
-        boolean valid = switch (current) {
-            case CREATED -> next == OrderStatus.PAID || next == OrderStatus.CANCELLED;
-            case PAID -> next == OrderStatus.SHIPPED || next == OrderStatus.CANCELLED;
-            case SHIPPED -> next == OrderStatus.DELIVERED;
-            case DELIVERED, CANCELLED -> false;
-        };
+        releaseStock(order);
 
-        if (!valid) {
-            throw new StateConflictException("Invalid status transition from " + current + " to " + next);
-        }
-    }
+        order.setStatus(OrderStatus.CANCELLED);
+        Order savedOrder = orderRepository.save(order);
 
-    /**
-     * Get total sales
-     */
-    public BigDecimal getTotalSales() {
-        BigDecimal total = orderRepository.getTotalSales();
-        return total != null ? total : BigDecimal.ZERO;
+        outboxService.orderStatusChanged(savedOrder, OrderStatus.CREATED);
+        return savedOrder;
     }
 
     /**
-     * Get today's sales
+     * Return the stock reserved by an order, once; orders that never reserved any are skipped
      */
-    public BigDecimal getTodaySales() {
-        LocalDateTime startOfDay = LocalDateTime.now().with(LocalTime.MIN);
-        LocalDateTime endOfDay = LocalDateTime.now().with(LocalTime.MAX);
-
-        BigDecimal total = orderRepository.getSalesBetween(startOfDay, endOfDay);
-        return total != null ? total : BigDecimal.ZERO;
+    private void releaseStock(Order order) {
+        if (!Boolean.TRUE.equals(order.getStockReserved())) {
+            return;
+        }
+        inventoryService.release(order.getItems().stream()
+                .collect(Collectors.toMap(item -> item.getBook().getId(), OrderItem::getQuantity, Integer::sum)));
+        order.setStockReserved(false);
     }
 
     /**
-     * Count orders by status
+     * Validate status transition
      */
-    public long countByStatus(OrderStatus status) {
-        return orderRepository.countByStatus(status);
+    private void validateStatusTransition(OrderStatus current, OrderStatus next) {
+        if (!isValidTransition(current, next)) {
+            throw new StateConflictException("Invalid status transition from " + current + " to " + next);
+        }
     }
 
-    /**
-     * Count today's orders
-     */
-    public long countTodayOrders() {
-        return orderRepository.countTodayOrders();
+    private static boolean isValidTransition(OrderStatus current, OrderStatus next) {
+        return switch (current) {
+            case CREATED -> next == OrderStatus.PAID || next == OrderStatus.CANCELLED;
+            case PAID -> next == OrderStatus.SHIPPED || next == OrderStatus.CANCELLED;
+            case SHIPPED -> next == OrderStatus.DELIVERED;
+            case DELIVERED, CANCELLED -> false;
+        };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,90 @@
+package kr.ac.jbnu.cr.bookstore.service;
+
+import kr.ac.jbnu.cr.bookstore.model.Order;
+import kr.ac.jbnu.cr.bookstore.model.OrderItem;
+import kr.ac.jbnu.cr.bookstore.model.OrderSummary;
+import kr.ac.jbnu.cr.bookstore.repository.OrderRepository;
+import kr.ac.jbnu.cr.bookstore.repository.OrderSummaryRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Order history read model
+ * Kept up to date from the order outbox; listing orders reads only order_summaries,
+ * the full order graph is loaded for the detail view alone.
+ */
+@Service
+public class OrderSummaryService implements OrderEventHandler {
+
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final OrderRepository orderRepository;
+
+    public OrderSummaryService(OrderSummaryRepository orderSummaryRepository,
+                               OrderRepository orderRepository) {
+        this.orderSummaryRepository = orderSummaryRepository;
+        this.orderRepository = orderRepository;
+    }
+
+    /**
+     * Find order summaries by user
+     */
+    public Page<OrderSummary> findByUserId(Long userId, Pageable pageable) {
+        return orderSummaryRepository.findByUserId(userId, pageable);
+    }
+
+    @Override
+    @Transactional
+    public void handle(OrderEvent event) {
+        switch (event.getType()) {
+            case ORDER_CREATED -> orderSummaryRepository.save(OrderSummary.builder()
+                    .orderId(event.getOrderId())
+                    .userId(event.getUserId())
+                    .status(event.getStatus())
+                    .totalAmount(event.getTotalAmount())
+                    .itemCount(event.getItemCount())
+                    .firstTitles(joinTitles(event.getTitles()))
+                    .createdAt(event.getOrderCreatedAt())
+                    .updatedAt(event.getOccurredAt())
+                    .build());
+            case ORDER_STATUS_CHANGED -> {
+                Optional<OrderSummary> existing = orderSummaryRepository.findById(event.getOrderId());
+                if (existing.isPresent()) {
+                    OrderSummary summary = existing.get();
+                    summary.setStatus(event.getStatus());
+                    summary.setUpdatedAt(event.getOccurredAt());
+                    orderSummaryRepository.save(summary);
+                } else {
+                    // Order placed before the read model existed
+                    orderRepository.findWithDetailsById(event.getOrderId())
+                            .map(OrderSummaryService::fromOrder)
+                            .ifPresent(orderSummaryRepository::save);
+                }
+            }
+        }
+    }
+
+    static OrderSummary fromOrder(Order order) {
+        return OrderSummary.builder()
+                .orderId(order.getId())
+                .userId(order.getUser().getId())
+                .status(order.getStatus())
+                .totalAmount(order.getTotalAmount())
+                .itemCount(order.getItems().stream().mapToInt(OrderItem::getQuantity).sum())
+                .firstTitles(joinTitles(order.getItems().stream()
+                        .limit(OrderEvent.MAX_TITLES)
+                        .map(item -> item.getBook().getTitle())
+                        .toList()))
+                .createdAt(order.getCreatedAt())
+                .updatedAt(order.getUpdatedAt())
+                .build();
+    }
+
+    private static String joinTitles(List<String> titles) {
+        return titles == null ? null : String.join(OrderSummary.TITLE_SEPARATOR, titles);
+    }
+}
@@ -0,0 +1,124 @@
+package kr.ac.jbnu.cr.bookstore.service;
+
+import kr.ac.jbnu.cr.bookstore.model.OutboxEvent;
+import kr.ac.jbnu.cr.bookstore.repository.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Polls the outbox and delivers order events to the registered handlers.
+ * Each event is claimed with SELECT ... FOR UPDATE SKIP LOCKED and handled in its own
+ * transaction together with its processed mark, so several nodes can poll concurrently
+ * and a handler failure rolls back only that event. Only the oldest pending event of
+ * each order is picked up per poll, which keeps delivery ordered per order.
+ */
+@Service
+public class OutboxDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxDispatcher.class);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxService outboxService;
+    private final List<OrderEventHandler> handlers;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final int retentionDays;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            OutboxService outboxService,
+                            List<OrderEventHandler> handlers,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.outbox.batch-size:100}") int batchSize,
+                            @Value("${app.outbox.max-attempts:10}") int maxAttempts,
+                            @Value("${app.outbox.retention-days:7}") int retentionDays) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxService = outboxService;
+        this.handlers = handlers;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * Dispatch pending events, returns the number of events delivered
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval:1000}")
+    public int dispatch() {
+        int delivered = 0;
+        for (Long eventId : outboxEventRepository.findPendingHeadIds(batchSize)) {
+            try {
+                Boolean handled = transactionTemplate.execute(status -> deliver(eventId));
+                if (Boolean.TRUE.equals(handled)) {
+                    delivered++;
+                }
+            } catch (RuntimeException e) {
+                recordFailure(eventId, e);
+            }
+        }
+        return delivered;
+    }
+
+    /**
+     * Remove delivered events past the retention period
+     */
+    @Scheduled(cron = "${app.outbox.cleanup-cron:0 30 3 * * *}")
+    public void purgeProcessed() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deleteProcessedBefore(LocalDateTime.now().minusDays(retentionDays)));
+        logger.info("Purged {} processed outbox events", deleted);
+    }
+
+    private boolean deliver(Long eventId) {
+        // Another node may have claimed or finished it since the poll
+        Optional<OutboxEvent> claimed = outboxEventRepository.lockPending(eventId);
+        if (claimed.isEmpty()) {
+            return false;
+        }
+
+        OutboxEvent event = claimed.get();
+        OrderEvent orderEvent = outboxService.read(event);
+        for (OrderEventHandler handler : handlers) {
+            handler.handle(orderEvent);
+        }
+
+        event.setAttempts(event.getAttempts() + 1);
+        event.setProcessedAt(LocalDateTime.now());
+        outboxEventRepository.save(event);
+        return true;
+    }
+
+    private void recordFailure(Long eventId, RuntimeException error) {
+        transactionTemplate.executeWithoutResult(status ->
+                outboxEventRepository.findById(eventId).ifPresent(event -> {
+                    int attempts = event.getAttempts() + 1;
+                    String message = String.valueOf(error.getMessage());
+
+                    event.setAttempts(attempts);
+                    event.setLastError(message.length() > MAX_ERROR_LENGTH
+                            ? message.substring(0, MAX_ERROR_LENGTH) : message);
+
+                    if (attempts >= maxAttempts) {
+                        // Give up so later events of the same order are no longer blocked
+                        event.setFailedAt(LocalDateTime.now());
+                        logger.error("Outbox event {} for order {} failed after {} attempts: {}",
+                                eventId, event.getAggregateId(), attempts, message);
+                    } else {
+                        logger.warn("Outbox event {} for order {} failed (attempt {}): {}",
+                                eventId, event.getAggregateId(), attempts, message);
+                    }
+                    outboxEventRepository.save(event);
+                }));
+    }
+}
@@ -0,0 +1,71 @@
+package kr.ac.jbnu.cr.bookstore.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.ac.jbnu.cr.bookstore.model.Order;
+import kr.ac.jbnu.cr.bookstore.model.OrderStatus;
+import kr.ac.jbnu.cr.bookstore.model.OutboxEvent;
+import kr.ac.jbnu.cr.bookstore.repository.OrderRepository;
+import kr.ac.jbnu.cr.bookstore.repository.OutboxEventRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxService(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Record order creation (same transaction as the order insert)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void orderCreated(Order order) {
+        record(OrderEvent.created(order));
+    }
+
+    /**
+     * Record order status change (same transaction as the order update)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void orderStatusChanged(Order order, OrderStatus previousStatus) {
+        record(OrderEvent.statusChanged(order, previousStatus));
+    }
+
+    /**
+     * Record status change of an order updated in bulk (same transaction as the update)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void orderStatusChanged(OrderRepository.StatusView order, OrderStatus newStatus) {
+        record(OrderEvent.statusChanged(order, newStatus));
+    }
+
+    /**
+     * Deserialize a stored event
+     */
+    public OrderEvent read(OutboxEvent event) {
+        try {
+            return objectMapper.readValue(event.getPayload(), OrderEvent.class).withEventId(event.getId());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable outbox payload for event " + event.getId(), e);
+        }
+    }
+
+    private void record(OrderEvent event) {
+        try {
+            outboxEventRepository.save(OutboxEvent.builder()
+                    .aggregateId(event.getOrderId())
+                    .eventType(event.getType())
+                    .payload(objectMapper.writeValueAsString(event))
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize order event for order " + event.getOrderId(), e);
+        }
+    }
+}
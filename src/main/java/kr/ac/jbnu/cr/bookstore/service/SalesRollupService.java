@@ -0,0 +1,137 @@
+package kr.ac.jbnu.cr.bookstore.service;
+
+import kr.ac.jbnu.cr.bookstore.model.OrderStatus;
+import kr.ac.jbnu.cr.bookstore.model.OrderStatusCount;
+import kr.ac.jbnu.cr.bookstore.model.RollupGranularity;
+import kr.ac.jbnu.cr.bookstore.model.SalesRollup;
+import kr.ac.jbnu.cr.bookstore.repository.OrderStatusCountRepository;
+import kr.ac.jbnu.cr.bookstore.repository.SalesRollupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Maintains the sales rollups and per-status counters from the order outbox
+ * Counters are adjusted with relative UPDATEs so concurrent events never lose increments;
+ * a missing row is inserted on first use (a racing insert fails the event and the outbox retries it).
+ * Minute and hour buckets are kept for a limited time, day buckets forever.
+ */
+@Service
+public class SalesRollupService implements OrderEventHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(SalesRollupService.class);
+
+    private final SalesRollupRepository salesRollupRepository;
+    private final OrderStatusCountRepository orderStatusCountRepository;
+    private final Duration minuteRetention;
+    private final Duration hourRetention;
+
+    public SalesRollupService(SalesRollupRepository salesRollupRepository,
+                              OrderStatusCountRepository orderStatusCountRepository,
+                              @Value("${app.stats.retention.minute:48h}") Duration minuteRetention,
+                              @Value("${app.stats.retention.hour:400d}") Duration hourRetention) {
+        this.salesRollupRepository = salesRollupRepository;
+        this.orderStatusCountRepository = orderStatusCountRepository;
+        this.minuteRetention = minuteRetention;
+        this.hourRetention = hourRetention;
+    }
+
+    /**
+     * Oldest time still covered by buckets of the given granularity, or null if kept forever
+     */
+    public LocalDateTime retainedSince(RollupGranularity granularity) {
+        return switch (granularity) {
+            case MINUTE -> granularity.bucketStart(LocalDateTime.now().minus(minuteRetention));
+            case HOUR -> granularity.bucketStart(LocalDateTime.now().minus(hourRetention));
+            case DAY -> null;
+        };
+    }
+
+    /**
+     * Drop minute and hour buckets past their retention period
+     */
+    @Scheduled(cron = "${app.stats.rollup-cleanup-cron:0 45 3 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            LocalDateTime since = retainedSince(granularity);
+            if (since != null) {
+                int deleted = salesRollupRepository.deleteBefore(granularity, since);
+                logger.info("Purged {} {} sales rollups", deleted, granularity);
+            }
+        }
+    }
+
+    @Override
+    @Transactional
+    public void handle(OrderEvent event) {
+        BigDecimal amount = event.getTotalAmount() != null ? event.getTotalAmount() : BigDecimal.ZERO;
+
+        switch (event.getType()) {
+            case ORDER_CREATED -> {
+                adjustStatus(event.getStatus(), 1, amount);
+                adjustBuckets(event.getOrderCreatedAt(), 1, revenueOf(event.getStatus(), amount));
+            }
+            case ORDER_STATUS_CHANGED -> {
+                if (event.getPreviousStatus() == event.getStatus()) {
+                    return;
+                }
+                adjustStatus(event.getPreviousStatus(), -1, amount.negate());
+                adjustStatus(event.getStatus(), 1, amount);
+
+                // Revenue is booked against the creation bucket, so cancelling takes it back out there
+                BigDecimal revenueDelta = revenueOf(event.getStatus(), amount)
+                        .subtract(revenueOf(event.getPreviousStatus(), amount));
+                if (revenueDelta.signum() != 0) {
+                    adjustBuckets(event.getOrderCreatedAt(), 0, revenueDelta);
+                }
+            }
+        }
+    }
+
+    private void adjustStatus(OrderStatus status, long orders, BigDecimal amount) {
+        if (status == null) {
+            return;
+        }
+        if (orderStatusCountRepository.increment(status, orders, amount) == 0) {
+            orderStatusCountRepository.saveAndFlush(OrderStatusCount.builder()
+                    .status(status)
+                    .orderCount(orders)
+                    .totalAmount(amount)
+                    .build());
+        }
+    }
+
+    private void adjustBuckets(LocalDateTime createdAt, long orders, BigDecimal revenue) {
+        if (createdAt == null) {
+            return;
+        }
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            LocalDateTime bucketStart = granularity.bucketStart(createdAt);
+            LocalDateTime since = retainedSince(granularity);
+            if (since != null && bucketStart.isBefore(since)) {
+                // Bucket already purged, recreating it would leave a partial row behind
+                continue;
+            }
+            if (salesRollupRepository.increment(granularity, bucketStart, orders, revenue) == 0) {
+                salesRollupRepository.saveAndFlush(SalesRollup.builder()
+                        .granularity(granularity)
+                        .bucketStart(bucketStart)
+                        .orderCount(orders)
+                        .revenue(revenue)
+                        .build());
+            }
+        }
+    }
+
+    private static BigDecimal revenueOf(OrderStatus status, BigDecimal amount) {
+        return status == null || status == OrderStatus.CANCELLED ? BigDecimal.ZERO : amount;
+    }
+}
@@ -0,0 +1,146 @@
+package kr.ac.jbnu.cr.bookstore.service;
+
+import kr.ac.jbnu.cr.bookstore.dto.response.StatsResponse;
+import kr.ac.jbnu.cr.bookstore.dto.response.TimeSeriesResponse;
+import kr.ac.jbnu.cr.bookstore.exception.BadRequestException;
+import kr.ac.jbnu.cr.bookstore.model.OrderStatus;
+import kr.ac.jbnu.cr.bookstore.model.OrderStatusCount;
+import kr.ac.jbnu.cr.bookstore.model.RollupGranularity;
+import kr.ac.jbnu.cr.bookstore.model.SalesRollup;
+import kr.ac.jbnu.cr.bookstore.repository.BookRepository;
+import kr.ac.jbnu.cr.bookstore.repository.OrderStatusCountRepository;
+import kr.ac.jbnu.cr.bookstore.repository.ReviewRepository;
+import kr.ac.jbnu.cr.bookstore.repository.SalesRollupRepository;
+import kr.ac.jbnu.cr.bookstore.repository.UserRepository;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Admin dashboard statistics
+ * Order figures come from the rollup tables (a handful of rows whatever the order volume),
+ * and the whole snapshot is cached briefly.
+ */
+@Service
+public class StatsService {
+
+    public static final String CACHE_NAME = "stats";
+    static final int MAX_POINTS = 1000;
+
+    private final OrderStatusCountRepository orderStatusCountRepository;
+    private final SalesRollupRepository salesRollupRepository;
+    private final SalesRollupService salesRollupService;
+    private final UserRepository userRepository;
+    private final BookRepository bookRepository;
+    private final ReviewRepository reviewRepository;
+
+    public StatsService(OrderStatusCountRepository orderStatusCountRepository,
+                        SalesRollupRepository salesRollupRepository,
+                        SalesRollupService salesRollupService,
+                        UserRepository userRepository,
+                        BookRepository bookRepository,
+                        ReviewRepository reviewRepository) {
+        this.orderStatusCountRepository = orderStatusCountRepository;
+        this.salesRollupRepository = salesRollupRepository;
+        this.salesRollupService = salesRollupService;
+        this.userRepository = userRepository;
+        this.bookRepository = bookRepository;
+        this.reviewRepository = reviewRepository;
+    }
+
+    /**
+     * Get summary statistics
+     */
+    @Cacheable(value = CACHE_NAME, key = "'summary'")
+    public StatsResponse getSummary() {
+        Map<OrderStatus, OrderStatusCount> counts = new EnumMap<>(OrderStatus.class);
+        orderStatusCountRepository.findAll().forEach(count -> counts.put(count.getStatus(), count));
+
+        long totalOrders = 0;
+        BigDecimal totalSales = BigDecimal.ZERO;
+        for (OrderStatusCount count : counts.values()) {
+            if (count.getStatus() != OrderStatus.CANCELLED) {
+                totalOrders += count.getOrderCount();
+                totalSales = totalSales.add(count.getTotalAmount());
+            }
+        }
+
+        Optional<SalesRollup> today = salesRollupRepository.findByGranularityAndBucketStart(
+                RollupGranularity.DAY, RollupGranularity.DAY.bucketStart(LocalDateTime.now()));
+        OrderStatusCount pending = counts.get(OrderStatus.CREATED);
+
+        return StatsResponse.builder()
+                .totalUsers(userRepository.count())
+                .totalBooks(bookRepository.count())
+                .totalOrders(totalOrders)
+                .todayOrders(today.map(SalesRollup::getOrderCount).orElse(0L))
+                .totalSales(totalSales)
+                .todaySales(today.map(SalesRollup::getRevenue).orElse(BigDecimal.ZERO))
+                .pendingOrders(pending != null ? pending.getOrderCount() : 0)
+                .totalReviews(reviewRepository.count())
+                .build();
+    }
+
+    /**
+     * Get order count and revenue over time
+     * Starts from the requested granularity (finest if none) and coarsens it while the range
+     * is past that tier's retention or would exceed MAX_POINTS buckets. A range still too long
+     * at day granularity is downsampled by merging consecutive days.
+     */
+    public TimeSeriesResponse getTimeSeries(LocalDateTime from, LocalDateTime to, RollupGranularity requested) {
+        if (!from.isBefore(to)) {
+            throw new BadRequestException("'from' must be before 'to'");
+        }
+
+        RollupGranularity granularity = requested != null ? requested : RollupGranularity.MINUTE;
+        while (granularity.coarser() != granularity && !covers(granularity, from, to)) {
+            granularity = granularity.coarser();
+        }
+
+        LocalDateTime start = granularity.bucketStart(from);
+        long stride = Math.ceilDiv(bucketCount(granularity.step(), start, to), MAX_POINTS);
+        Duration step = granularity.step().multipliedBy(stride);
+        int size = (int) bucketCount(step, start, to);
+
+        long[] orders = new long[size];
+        BigDecimal[] revenue = new BigDecimal[size];
+        for (SalesRollup rollup : salesRollupRepository.findRange(granularity, start, to)) {
+            int index = (int) (Duration.between(start, rollup.getBucketStart()).toSeconds() / step.toSeconds());
+            orders[index] += rollup.getOrderCount();
+            revenue[index] = revenue[index] == null ? rollup.getRevenue() : revenue[index].add(rollup.getRevenue());
+        }
+
+        List<TimeSeriesResponse.Point> points = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            points.add(new TimeSeriesResponse.Point(start.plus(step.multipliedBy(i)), orders[i],
+                    revenue[i] != null ? revenue[i] : BigDecimal.ZERO));
+        }
+
+        return TimeSeriesResponse.builder()
+                .granularity(granularity)
+                .bucketSeconds(step.toSeconds())
+                .from(start)
+                .to(to)
+                .points(points)
+                .build();
+    }
+
+    private boolean covers(RollupGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = granularity.bucketStart(from);
+        LocalDateTime since = salesRollupService.retainedSince(granularity);
+        return (since == null || !start.isBefore(since))
+                && bucketCount(granularity.step(), start, to) <= MAX_POINTS;
+    }
+
+    private static long bucketCount(Duration step, LocalDateTime start, LocalDateTime to) {
+        return Math.ceilDiv(Duration.between(start, to).toSeconds(), step.toSeconds());
+    }
+}
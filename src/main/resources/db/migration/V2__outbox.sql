@@ -0,0 +1,12 @@
+CREATE TABLE outbox_events (
+    outbox_event_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    aggregate_id BIGINT NOT NULL,
+    event_type VARCHAR(40) NOT NULL,
+    payload TEXT NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    last_error VARCHAR(1000),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    processed_at TIMESTAMP NULL,
+    failed_at TIMESTAMP NULL,
+    INDEX idx_outbox_pending (processed_at, failed_at, aggregate_id)
+);
@@ -0,0 +1,26 @@
+CREATE TABLE order_summaries (
+    order_id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    total_amount DECIMAL(12, 2) NOT NULL,
+    item_count INT NOT NULL,
+    first_titles VARCHAR(1600),
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NULL,
+    INDEX idx_order_summaries_user_created (user_id, created_at)
+);
+
+-- Backfill existing orders (first three titles in line order)
+INSERT INTO order_summaries (order_id, user_id, status, total_amount, item_count, first_titles, created_at, updated_at)
+SELECT o.order_id,
+       o.user_id,
+       o.status,
+       o.total_amount,
+       COALESCE(SUM(oi.quantity), 0),
+       SUBSTRING_INDEX(GROUP_CONCAT(b.title ORDER BY oi.order_item_id SEPARATOR '\n'), '\n', 3),
+       o.created_at,
+       o.updated_at
+FROM orders o
+LEFT JOIN order_items oi ON oi.order_id = o.order_id
+LEFT JOIN books b ON b.book_id = oi.book_id
+GROUP BY o.order_id, o.user_id, o.status, o.total_amount, o.created_at, o.updated_at;
@@ -0,0 +1,36 @@
+CREATE TABLE order_status_counts (
+    status VARCHAR(20) PRIMARY KEY,
+    order_count BIGINT NOT NULL,
+    total_amount DECIMAL(14, 2) NOT NULL
+);
+
+CREATE TABLE sales_rollups (
+    sales_rollup_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    granularity VARCHAR(10) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    order_count BIGINT NOT NULL,
+    revenue DECIMAL(14, 2) NOT NULL,
+    UNIQUE KEY uk_sales_rollups_bucket (granularity, bucket_start)
+);
+
+-- Backfill from existing orders (revenue excludes cancelled orders)
+INSERT INTO order_status_counts (status, order_count, total_amount)
+SELECT status, COUNT(*), SUM(total_amount)
+FROM orders
+GROUP BY status;
+
+INSERT INTO sales_rollups (granularity, bucket_start, order_count, revenue)
+SELECT 'HOUR',
+       DATE_FORMAT(created_at, '%Y-%m-%d %H:00:00'),
+       COUNT(*),
+       SUM(CASE WHEN status <> 'CANCELLED' THEN total_amount ELSE 0 END)
+FROM orders
+GROUP BY DATE_FORMAT(created_at, '%Y-%m-%d %H:00:00');
+
+INSERT INTO sales_rollups (granularity, bucket_start, order_count, revenue)
+SELECT 'DAY',
+       DATE(created_at),
+       COUNT(*),
+       SUM(CASE WHEN status <> 'CANCELLED' THEN total_amount ELSE 0 END)
+FROM orders
+GROUP BY DATE(created_at);
@@ -0,0 +1,9 @@
+-- Minute buckets are only retained for two days, backfill that window
+INSERT INTO sales_rollups (granularity, bucket_start, order_count, revenue)
+SELECT 'MINUTE',
+       DATE_FORMAT(created_at, '%Y-%m-%d %H:%i:00'),
+       COUNT(*),
+       SUM(CASE WHEN status <> 'CANCELLED' THEN total_amount ELSE 0 END)
+FROM orders
+WHERE created_at >= NOW() - INTERVAL 2 DAY
+GROUP BY DATE_FORMAT(created_at, '%Y-%m-%d %H:%i:00');
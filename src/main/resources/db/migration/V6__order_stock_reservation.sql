@@ -0,0 +1,4 @@
+-- Orders placed before checkout reserved stock never decremented it, so cancelling them must
+-- not give stock back. Existing rows get FALSE; new orders are created with TRUE.
+ALTER TABLE orders
+    ADD COLUMN stock_reserved BOOLEAN NOT NULL DEFAULT FALSE;
@@ -0,0 +1,117 @@
+package kr.ac.jbnu.cr.bookstore.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HttpMetricsFilterTest {
+
+    private SimpleMeterRegistry registry;
+    private HttpMetricsFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        filter = new HttpMetricsFilter(registry);
+    }
+
+    @Test
+    @DisplayName("Filter - Requests are timed per route template, method and status")
+    void filter_TimesPerRoute() throws Exception {
+        perform("GET", "/books/1", "/books/{id}", 200);
+        perform("GET", "/books/2", "/books/{id}", 200);
+        perform("GET", "/books/3", "/books/{id}", 404);
+
+        Timer ok = timer("GET", "/books/{id}", "200");
+        assertThat(ok.count()).isEqualTo(2);
+        assertThat(timer("GET", "/books/{id}", "404").count()).isEqualTo(1);
+        assertThat(registry.find(HttpMetricsFilter.METRIC_NAME).tag("uri", "/books/1").timer()).isNull();
+    }
+
+    @Test
+    @DisplayName("Filter - Timers are registered once and reused")
+    void filter_ReusesTimers() throws Exception {
+        perform("GET", "/books/1", "/books/{id}", 200);
+        int meters = registry.getMeters().size();
+
+        for (int i = 0; i < 100; i++) {
+            perform("GET", "/books/" + i, "/books/{id}", 200);
+        }
+
+        assertThat(registry.getMeters()).hasSize(meters);
+        assertThat(timer("GET", "/books/{id}", "200").count()).isEqualTo(101);
+    }
+
+    @Test
+    @DisplayName("Filter - Unmatched paths share one series")
+    void filter_UnmatchedPathsCollapsed() throws Exception {
+        perform("GET", "/wp-admin", null, 404);
+        perform("GET", "/.env", null, 404);
+
+        assertThat(timer("GET", HttpMetricsFilter.NOT_FOUND, "404").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Filter - Non-standard methods share one series")
+    void filter_UnknownMethodsCollapsed() throws Exception {
+        perform("FOO", "/books/1", null, 405);
+        perform("BAR123", "/books/2", null, 405);
+        perform("get", "/books/3", null, 405);
+
+        assertThat(timer(HttpMetricsFilter.OTHER_METHOD, HttpMetricsFilter.UNKNOWN, "405").count()).isEqualTo(3);
+        assertThat(registry.find(HttpMetricsFilter.METRIC_NAME).tag("method", "FOO").timer()).isNull();
+    }
+
+    @Test
+    @DisplayName("Filter - In-flight gauge counts requests being handled")
+    void filter_TracksInFlight() throws Exception {
+        double[] during = new double[1];
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/orders");
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> during[0] = registry.get(HttpMetricsFilter.METRIC_NAME + ".active").gauge().value());
+
+        assertThat(during[0]).isEqualTo(1);
+        assertThat(registry.get(HttpMetricsFilter.METRIC_NAME + ".active").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Filter - Exception escaping the chain is recorded as 500")
+    void filter_ExceptionRecordedAs500() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/orders");
+
+        assertThatThrownBy(() -> filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/orders");
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(timer("POST", "/orders", "500").count()).isEqualTo(1);
+        assertThat(registry.get(HttpMetricsFilter.METRIC_NAME + ".active").gauge().value()).isZero();
+    }
+
+    private void perform(String method, String path, String route, int status) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> {
+            if (route != null) {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, route);
+            }
+            response.setStatus(status);
+        });
+    }
+
+    private Timer timer(String method, String uri, String status) {
+        return registry.get(HttpMetricsFilter.METRIC_NAME)
+                .tag("method", method).tag("uri", uri).tag("status", status).timer();
+    }
+}
@@ -0,0 +1,209 @@
+package kr.ac.jbnu.cr.bookstore.config;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.protocol.ProtocolVersion;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs against a Redis stand-in so SET NX, reads and outages go over a real connection
+ */
+class IdempotencyFilterTest {
+
+    private static final String ORDER_BODY = "{\"items\":[{\"bookId\":1,\"quantity\":2}]}";
+
+    private RedisStandIn redis;
+    private LettuceConnectionFactory connectionFactory;
+    private IdempotencyFilter filter;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = new RedisStandIn();
+        redis.start();
+
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .commandTimeout(Duration.ofMillis(200))
+                .clientOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP2).build())
+                .build();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration("localhost", redis.getPort()), clientConfiguration);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        filter = filter(new StringRedisTemplate(connectionFactory));
+        executions = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connectionFactory.destroy();
+        redis.close();
+    }
+
+    @Test
+    @DisplayName("Filter - Completed request is replayed without executing again")
+    void filter_Completed_Replays() throws Exception {
+        MockHttpServletResponse first = perform("key-1", ORDER_BODY, respond(201, "{\"id\":7}"));
+        MockHttpServletResponse second = perform("key-1", ORDER_BODY, respond(201, "{\"id\":8}"));
+
+        assertThat(executions).hasValue(1);
+        assertThat(second.getStatus()).isEqualTo(201);
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString()).isEqualTo("{\"id\":7}");
+        assertThat(second.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(first.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("Filter - Concurrent duplicate waits for the first request and gets its response")
+    void filter_ConcurrentDuplicate_WaitsForFirst() throws Exception {
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        FilterChain slow = (request, response) -> {
+            executions.incrementAndGet();
+            firstStarted.countDown();
+            try {
+                releaseFirst.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            response.getOutputStream().write("{\"id\":7}".getBytes(StandardCharsets.UTF_8));
+        };
+
+        CompletableFuture<MockHttpServletResponse> first =
+                CompletableFuture.supplyAsync(() -> performUnchecked("key-1", ORDER_BODY, slow));
+        assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<MockHttpServletResponse> duplicate =
+                CompletableFuture.supplyAsync(() -> performUnchecked("key-1", ORDER_BODY, respond(200, "{}")));
+
+        Thread.sleep(200);
+        assertThat(duplicate).isNotDone();
+        releaseFirst.countDown();
+
+        MockHttpServletResponse replayed = duplicate.get(5, TimeUnit.SECONDS);
+        assertThat(first.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo("{\"id\":7}");
+        assertThat(replayed.getContentAsString()).isEqualTo("{\"id\":7}");
+        assertThat(replayed.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Filter - Same key with a different body is rejected with 422")
+    void filter_KeyReusedWithDifferentBody_Returns422() throws Exception {
+        perform("key-1", ORDER_BODY, respond(201, "{\"id\":7}"));
+        MockHttpServletResponse response = perform("key-1", "{\"items\":[]}", respond(201, "{}"));
+
+        assertThat(response.getStatus()).isEqualTo(422);
+        assertThat(response.getContentAsString()).contains("IDEMPOTENCY_KEY_REUSED");
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Filter - Server error releases the key so a retry executes again")
+    void filter_ServerError_ReleasesKey() throws Exception {
+        perform("key-1", ORDER_BODY, respond(503, "{}"));
+        MockHttpServletResponse retry = perform("key-1", ORDER_BODY, respond(201, "{\"id\":7}"));
+
+        assertThat(executions).hasValue(2);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("Filter - Redis down processes the request without the key")
+    void filter_RedisDown_FailsOpen() throws Exception {
+        redis.stop();
+
+        MockHttpServletResponse response = perform("key-1", ORDER_BODY, respond(201, "{\"id\":7}"));
+
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":7}");
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Filter - Store failing after the key is taken processes the request instead of a 500")
+    @SuppressWarnings("unchecked")
+    void filter_ReadFailsDuringReplay_FailsOpen() throws Exception {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        filter = filter(redisTemplate);
+
+        MockHttpServletResponse response = perform("key-1", ORDER_BODY, respond(201, "{\"id\":7}"));
+
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Filter - Body over max-request-size is rejected with 413 before it is buffered")
+    void filter_OversizedBody_Returns413() throws Exception {
+        MockHttpServletResponse response = perform("key-1", "x".repeat(2048), respond(201, "{}"));
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(executions).hasValue(0);
+        assertThat(redis.containsKey("idempotency:ip:127.0.0.1:key-1")).isFalse();
+    }
+
+    private IdempotencyFilter filter(StringRedisTemplate redisTemplate) {
+        return new IdempotencyFilter(redisTemplate, Jackson2ObjectMapperBuilder.json().build(), Duration.ofHours(1),
+                Duration.ofSeconds(30), Duration.ofSeconds(5), 65536, 1024);
+    }
+
+    private FilterChain respond(int status, String body) {
+        return (request, response) -> {
+            executions.incrementAndGet();
+            request.getInputStream().readAllBytes();
+            ((HttpServletResponse) response).setStatus(status);
+            response.setContentType("application/json");
+            response.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private MockHttpServletResponse perform(String key, String body, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/orders");
+        request.addHeader(IdempotencyFilter.HEADER, key);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private MockHttpServletResponse performUnchecked(String key, String body, FilterChain chain) {
+        try {
+            return perform(key, body, chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package kr.ac.jbnu.cr.bookstore.config;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Assertions pinning how many SQL statements a piece of code may run, for tests that go
+ * through Hibernate (JPA slices, MockMvc against the full context):
+ * <pre>
+ * BookResponse book = QueryBudget.atMost(2, () -> bookService.getBook(id));
+ * QueryBudget.noRepeats(() -> mockMvc.perform(get("/reviews")));
+ * </pre>
+ * Failures list every statement with how often it ran.
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    public interface Action<T> {
+        T run() throws Exception;
+    }
+
+    /**
+     * Run the action and fail if it took more than max statements
+     */
+    public static <T> T atMost(int max, Action<T> action) {
+        return check(action, scope -> scope.getCount() > max,
+                scope -> "Expected at most " + max + " statements but " + scope.getCount() + " ran");
+    }
+
+    /**
+     * Run the action and fail if it took a different number of statements
+     */
+    public static <T> T exactly(int expected, Action<T> action) {
+        return check(action, scope -> scope.getCount() != expected,
+                scope -> "Expected " + expected + " statements but " + scope.getCount() + " ran");
+    }
+
+    /**
+     * Run the action and fail if any statement ran more than once, the shape of an N+1
+     */
+    public static <T> T noRepeats(Action<T> action) {
+        return check(action, scope -> !scope.getRepeated(2).isEmpty(),
+                scope -> "Expected no repeated statements but " + scope.getRepeated(2).size() + " repeated");
+    }
+
+    /**
+     * Run the action and return what it ran, for custom assertions
+     */
+    public static QueryCounter.Scope measure(Action<?> action) {
+        try (QueryCounter.Scope scope = QueryCounter.start()) {
+            run(action);
+            return scope;
+        }
+    }
+
+    private static <T> T check(Action<T> action,
+                               Predicate<QueryCounter.Scope> violated,
+                               Function<QueryCounter.Scope, String> message) {
+        try (QueryCounter.Scope scope = QueryCounter.start()) {
+            T result = run(action);
+            if (violated.test(scope)) {
+                throw new AssertionError(message.apply(scope) + describe(scope.getStatements()));
+            }
+            return result;
+        }
+    }
+
+    private static <T> T run(Action<T> action) {
+        try {
+            return action.run();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String describe(Map<String, Integer> statements) {
+        StringBuilder description = new StringBuilder();
+        statements.forEach((sql, times) -> description.append("\n  ").append(times).append("x ").append(sql));
+        return description.toString();
+    }
+}
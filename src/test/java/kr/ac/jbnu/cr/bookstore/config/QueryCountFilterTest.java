@@ -0,0 +1,76 @@
+package kr.ac.jbnu.cr.bookstore.config;
+
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryCountFilterTest {
+
+    private final QueryCountFilter filter = new QueryCountFilter(3);
+    private final QueryCountInspector inspector = new QueryCountInspector();
+
+    @Test
+    @DisplayName("Filter - Statement count is reported after the body was written")
+    void filter_AddsHeader() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/books"), response, (req, res) -> {
+            inspector.inspect("select b.book_id from books b");
+            inspector.inspect("select r.review_id from reviews r where r.book_id=?");
+            res.getWriter().write("{}");
+            res.flushBuffer();
+        });
+
+        assertThat(response.getHeader(QueryCountFilter.HEADER)).isEqualTo("2");
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("{}");
+    }
+
+    @Test
+    @DisplayName("Filter - Streaming body written after the first dispatch goes straight to the client")
+    void filter_AsyncStreamingBodyWrittenThrough() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/admin/orders/export");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServletResponse[] streamTarget = new ServletResponse[1];
+
+        filter.doFilter(request, response, (req, res) -> {
+            inspector.inspect("select o.order_id from orders o");
+            req.startAsync();
+            res.getOutputStream().write("id,status\n".getBytes(StandardCharsets.UTF_8));
+            streamTarget[0] = res;
+        });
+
+        // The first dispatch has returned: header set, what was written so far sent
+        assertThat(response.getHeader(QueryCountFilter.HEADER)).isEqualTo("1");
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("id,status\n");
+
+        // Rows streamed later by the async task are not held back
+        streamTarget[0].getOutputStream().write("1,PAID\n".getBytes(StandardCharsets.UTF_8));
+        streamTarget[0].flushBuffer();
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("id,status\n1,PAID\n");
+        assertThat(response.isCommitted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Filter - Event streams are passed through unbuffered")
+    void filter_StreamingNotBuffered() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/orders/1/events");
+        request.addHeader("Accept", "text/event-stream");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {
+            res.getWriter().write("data: {}\n\n");
+            res.flushBuffer();
+            assertThat(res).isSameAs(response);
+        });
+
+        assertThat(response.getHeader(QueryCountFilter.HEADER)).isNull();
+        assertThat(response.isCommitted()).isTrue();
+    }
+}
@@ -0,0 +1,116 @@
+package kr.ac.jbnu.cr.bookstore.config;
+
+import jakarta.persistence.EntityManager;
+import kr.ac.jbnu.cr.bookstore.dto.response.ReviewResponse;
+import kr.ac.jbnu.cr.bookstore.model.Book;
+import kr.ac.jbnu.cr.bookstore.model.Review;
+import kr.ac.jbnu.cr.bookstore.model.User;
+import kr.ac.jbnu.cr.bookstore.repository.ReviewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Statement accounting through the Hibernate inspector, using per-review lazy loads
+ * as the N+1 to catch
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class QueryCounterTest {
+
+    private static final int REVIEWS = 4;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long bookId;
+
+    @BeforeEach
+    void setUp() {
+        Book book = persist(Book.builder().title("Test Book").price(BigDecimal.TEN).build());
+        bookId = book.getId();
+        for (int i = 0; i < REVIEWS; i++) {
+            User user = persist(User.builder()
+                    .email("reader" + i + "@example.com")
+                    .username("reader" + i)
+                    .passwordHash("hash")
+                    .build());
+            persist(Review.builder().user(user).book(book).rating(4).comment("Good").build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Budget - Review listing by book fetches its associations in one statement")
+    void budget_ReviewListingPinned() {
+        entityManager.clear();
+
+        List<ReviewResponse> reviews = QueryBudget.exactly(1, () -> QueryBudget.noRepeats(() ->
+                reviewRepository.findByBookIdAndDeletedAtIsNull(bookId, PageRequest.of(0, 10)).getContent()
+                        .stream().map(ReviewResponse::from).toList()));
+
+        assertThat(reviews).hasSize(REVIEWS);
+    }
+
+    @Test
+    @DisplayName("Scope - Lazy loads per row show up as repeated statements")
+    void scope_FlagsRepeatedStatements() {
+        QueryCounter.Scope scope = QueryBudget.measure(() -> listReviews());
+
+        assertThat(scope.getRepeated(REVIEWS)).isNotEmpty();
+        assertThat(scope.getRepeated(REVIEWS).values()).allMatch(times -> times == REVIEWS);
+    }
+
+    @Test
+    @DisplayName("Budget - Exceeding the budget fails with the statements that ran")
+    void budget_ExceededFails() {
+        assertThatThrownBy(() -> QueryBudget.atMost(2, this::listReviews))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("Expected at most 2 statements")
+                .hasMessageContaining(REVIEWS + "x select");
+        assertThatThrownBy(() -> QueryBudget.noRepeats(this::listReviews))
+                .isInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    @DisplayName("Scope - Statements before it are not counted, those of nested scopes are")
+    void scope_CountsOwnAndNestedStatements() {
+        listReviews();
+
+        QueryCounter.Scope inner;
+        try (QueryCounter.Scope outer = QueryCounter.start()) {
+            reviewRepository.count();
+            inner = QueryBudget.measure(this::listReviews);
+
+            assertThat(outer.getCount()).isEqualTo(1 + inner.getCount());
+        }
+        assertThat(inner.getCount()).isGreaterThan(REVIEWS);
+    }
+
+    /**
+     * Plain findAll has no entity graph, so every review loads its user and likes separately
+     */
+    private List<ReviewResponse> listReviews() {
+        entityManager.clear();
+        return reviewRepository.findAll().stream().map(ReviewResponse::from).toList();
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
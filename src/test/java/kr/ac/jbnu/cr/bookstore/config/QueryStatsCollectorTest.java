@@ -0,0 +1,150 @@
+package kr.ac.jbnu.cr.bookstore.config;
+
+import kr.ac.jbnu.cr.bookstore.dto.response.QueryDiagnosticsResponse;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statements go through the data source proxy to an in-memory H2 database
+ */
+class QueryStatsCollectorTest {
+
+    private DataSource target;
+
+    @BeforeEach
+    void setUp() {
+        target = DataSourceBuilder.create()
+                .url("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1")
+                .username("sa")
+                .build();
+        new JdbcTemplate(target).execute("CREATE TABLE books (id BIGINT PRIMARY KEY, title VARCHAR(100))");
+        new JdbcTemplate(target).execute(
+                "CREATE TABLE users (id BIGINT PRIMARY KEY, email VARCHAR(100), password_hash VARCHAR(100))");
+    }
+
+    @Test
+    @DisplayName("Normalize - Literals and IN lists collapse to one shape")
+    void normalize_CollapsesLiterals() {
+        assertThat(QueryStatsCollector.normalize("select b1_0.id from books b1_0\n  where b1_0.id in (?, ?,?) and title = 'Dune'"))
+                .isEqualTo("select b1_0.id from books b1_0 where b1_0.id in (?) and title = ?");
+        assertThat(QueryStatsCollector.normalize("select * from books where id = 42 limit 10"))
+                .isEqualTo("select * from books where id = ? limit ?");
+    }
+
+    @Test
+    @DisplayName("Collect - Executions are aggregated per shape")
+    void collect_AggregatesPerShape() {
+        QueryStatsCollector collector = collector(Duration.ofMinutes(1), 100);
+        JdbcTemplate jdbc = jdbc(collector);
+
+        for (long id = 1; id <= 5; id++) {
+            jdbc.update("INSERT INTO books (id, title) VALUES (?, ?)", id, "Book " + id);
+        }
+        jdbc.queryForList("SELECT title FROM books WHERE id IN (?, ?)", String.class, 1, 2);
+        jdbc.queryForList("SELECT title FROM books WHERE id IN (?, ?, ?)", String.class, 1, 2, 3);
+
+        QueryDiagnosticsResponse snapshot = collector.snapshot(QueryStatsCollector.Sort.COUNT, 10);
+
+        assertThat(snapshot.getTotalStatements()).isEqualTo(7);
+        assertThat(snapshot.getShapes()).extracting(QueryDiagnosticsResponse.QueryShape::getShape)
+                .containsExactly("INSERT INTO books (id, title) VALUES (?, ?)",
+                        "SELECT title FROM books WHERE id in (?)");
+        QueryDiagnosticsResponse.QueryShape inserts = snapshot.getShapes().get(0);
+        assertThat(inserts.getCount()).isEqualTo(5);
+        assertThat(inserts.getTotalMs()).isPositive();
+        assertThat(inserts.getP99Ms()).isGreaterThanOrEqualTo(inserts.getP50Ms());
+        assertThat(snapshot.getSlowQueries()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Collect - Slow executions are kept with their bind parameters when capture is on")
+    void collect_KeepsSlowWithParameters() {
+        QueryStatsCollector collector = new QueryStatsCollector(Duration.ZERO, 10, 100, true);
+        JdbcTemplate jdbc = jdbc(collector);
+
+        jdbc.update("INSERT INTO books (id, title) VALUES (?, ?)", 42L, "Dune");
+
+        List<QueryDiagnosticsResponse.SlowQuery> slow = collector.snapshot(QueryStatsCollector.Sort.TOTAL, 10)
+                .getSlowQueries();
+        assertThat(slow).hasSize(1);
+        assertThat(slow.get(0).getSql()).isEqualTo("INSERT INTO books (id, title) VALUES (?, ?)");
+        assertThat(slow.get(0).getParameters()).containsExactly(List.of("42", "Dune"));
+        assertThat(slow.get(0).isSuccess()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Collect - Bind parameters are not captured by default")
+    void collect_ParametersOffByDefault() {
+        QueryStatsCollector collector = collector(Duration.ZERO, 100);
+
+        jdbc(collector).update("INSERT INTO books (id, title) VALUES (?, ?)", 42L, "Dune");
+
+        QueryDiagnosticsResponse.SlowQuery slow = collector.snapshot(QueryStatsCollector.Sort.TOTAL, 10)
+                .getSlowQueries().get(0);
+        assertThat(slow.getSql()).isEqualTo("INSERT INTO books (id, title) VALUES (?, ?)");
+        assertThat(slow.getParameters()).isNull();
+    }
+
+    @Test
+    @DisplayName("Collect - Values of statements on credential or contact columns are redacted")
+    void collect_RedactsSensitiveColumns() {
+        QueryStatsCollector collector = new QueryStatsCollector(Duration.ZERO, 10, 100, true);
+        String hash = "$2a$10$" + "x".repeat(53);
+
+        jdbc(collector).update("INSERT INTO users (id, email, password_hash) VALUES (?, ?, ?)",
+                1L, "reader@example.com", hash);
+
+        QueryDiagnosticsResponse.SlowQuery slow = collector.snapshot(QueryStatsCollector.Sort.TOTAL, 10)
+                .getSlowQueries().get(0);
+        assertThat(slow.getParameters()).containsExactly(List.of(
+                QueryStatsCollector.REDACTED, QueryStatsCollector.REDACTED, QueryStatsCollector.REDACTED));
+    }
+
+    @Test
+    @DisplayName("Collect - Shapes past the limit are counted together")
+    void collect_CapsShapes() {
+        QueryStatsCollector collector = collector(Duration.ofMinutes(1), 1);
+        JdbcTemplate jdbc = jdbc(collector);
+
+        jdbc.update("INSERT INTO books (id, title) VALUES (?, ?)", 1L, "Dune");
+        jdbc.queryForList("SELECT title FROM books", String.class);
+        jdbc.queryForList("SELECT id FROM books", Long.class);
+
+        QueryDiagnosticsResponse snapshot = collector.snapshot(QueryStatsCollector.Sort.COUNT, 10);
+        assertThat(snapshot.getShapes()).extracting(QueryDiagnosticsResponse.QueryShape::getShape)
+                .containsExactly(QueryStatsCollector.OTHER_SHAPE, "INSERT INTO books (id, title) VALUES (?, ?)");
+        assertThat(snapshot.getShapes().get(0).getCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Reset - Clears shapes and slow samples")
+    void reset_ClearsEverything() {
+        QueryStatsCollector collector = collector(Duration.ZERO, 100);
+        jdbc(collector).queryForList("SELECT title FROM books", String.class);
+
+        collector.reset();
+
+        QueryDiagnosticsResponse snapshot = collector.snapshot(QueryStatsCollector.Sort.TOTAL, 10);
+        assertThat(snapshot.getShapes()).isEmpty();
+        assertThat(snapshot.getSlowQueries()).isEmpty();
+    }
+
+    private QueryStatsCollector collector(Duration slowThreshold, int maxShapes) {
+        return new QueryStatsCollector(slowThreshold, 10, maxShapes, false);
+    }
+
+    private JdbcTemplate jdbc(QueryStatsCollector collector) {
+        return new JdbcTemplate(ProxyDataSourceBuilder.create(target).listener(collector).build());
+    }
+}
@@ -0,0 +1,163 @@
+package kr.ac.jbnu.cr.bookstore.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RateLimiterTest {
+
+    private StringRedisTemplate redisTemplate;
+    private FakeGcra gcra;
+    private RateLimitPolicy policy;
+    private RedisCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        gcra = new FakeGcra();
+        circuitBreaker = new RedisCircuitBreaker(3, Duration.ofSeconds(10), Duration.ofSeconds(1),
+                new SimpleMeterRegistry());
+        policy = new RateLimitPolicy();
+        policy.setName("default");
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<List>>any(), anyList(), any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> gcra.lease(Integer.parseInt(invocation.getArgument(4)),
+                        Integer.parseInt(invocation.getArgument(5)), Integer.parseInt(invocation.getArgument(6))));
+    }
+
+    @Test
+    @DisplayName("Acquire - Most requests are decided from the local bucket")
+    void acquire_LeasesInBatches() {
+        gcra.available = 100;
+        RateLimiter limiter = limiter(Duration.ofSeconds(30));
+
+        for (int i = 0; i < 50; i++) {
+            assertThat(limiter.acquire(policy, "client", 1).isAllowed()).isTrue();
+        }
+
+        // Leases grow 1, 2, 4, 8, 10, 10, 10, 10: eight round trips, five tokens still held locally
+        assertThat(gcra.calls).isEqualTo(8);
+        assertThat(gcra.available).isEqualTo(45);
+    }
+
+    @Test
+    @DisplayName("Acquire - Nodes sharing the limit never admit more than it grants")
+    void acquire_SharedLimitHolds() {
+        gcra.available = 20;
+        RateLimiter nodeA = limiter(Duration.ofSeconds(30));
+        RateLimiter nodeB = limiter(Duration.ofSeconds(30));
+
+        int allowed = 0;
+        for (int i = 0; i < 100; i++) {
+            RateLimiter node = i % 2 == 0 ? nodeA : nodeB;
+            if (node.acquire(policy, "client", 1).isAllowed()) {
+                allowed++;
+            }
+        }
+
+        assertThat(allowed).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Acquire - Rejection is remembered locally until the retry time")
+    void acquire_RejectionCachedLocally() {
+        gcra.available = 0;
+        RateLimiter limiter = limiter(Duration.ofSeconds(30));
+
+        RateLimiter.Decision first = limiter.acquire(policy, "client", 1);
+        limiter.acquire(policy, "client", 1);
+        limiter.acquire(policy, "client", 1);
+
+        assertThat(first.isAllowed()).isFalse();
+        assertThat(first.getRetryAfterMillis()).isPositive();
+        assertThat(gcra.calls).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Acquire - Tokens left when a lease expires are refunded")
+    void acquire_ExpiredLeaseRefunded() throws InterruptedException {
+        gcra.available = 100;
+        RateLimiter limiter = limiter(Duration.ofMillis(50));
+
+        // Grow the batch to 2, then leave one of its tokens unused
+        limiter.acquire(policy, "client", 1);
+        limiter.acquire(policy, "client", 1);
+        Thread.sleep(60);
+        limiter.acquire(policy, "client", 1);
+
+        assertThat(gcra.refunded).isEqualTo(1);
+        assertThat(gcra.available).isEqualTo(100 - 1 - 2 + 1 - 1);
+    }
+
+    @Test
+    @DisplayName("Acquire - Unavailable store falls back to a local limit")
+    void acquire_StoreDown_LimitsLocally() {
+        // doThrow, because re-stubbing through when() would run the answer from setUp
+        doThrow(new RedisConnectionFailureException("down")).when(redisTemplate)
+                .execute(ArgumentMatchers.<RedisScript<List>>any(), anyList(), any(), any(), any(), any(), any());
+        policy.setLimit(20);
+        RateLimiter limiter = limiter(Duration.ofSeconds(30));
+
+        int allowed = 0;
+        for (int i = 0; i < 50; i++) {
+            if (limiter.acquire(policy, "client", 1).isAllowed()) {
+                allowed++;
+            }
+        }
+
+        assertThat(allowed).isEqualTo(20);
+        assertThat(circuitBreaker.getState()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("Acquire - Weighted request needs its full cost in one lease")
+    void acquire_CostIsAllOrNothing() {
+        gcra.available = 4;
+        RateLimiter limiter = limiter(Duration.ofSeconds(30));
+
+        assertThat(limiter.acquire(policy, "client", 5).isAllowed()).isFalse();
+        assertThat(gcra.available).isEqualTo(4);
+    }
+
+    private RateLimiter limiter(Duration lease) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setBatchSize(10);
+        properties.setLease(lease);
+        return new RateLimiter(redisTemplate, circuitBreaker, properties);
+    }
+
+    /**
+     * Stands in for the Lua script with a plain token pool shared by all limiters
+     */
+    private static class FakeGcra {
+
+        private int available;
+        private int calls;
+        private int refunded;
+
+        List<Long> lease(int requested, int refund, int minimum) {
+            calls++;
+            refunded += refund;
+            available += refund;
+            int granted = available >= minimum ? Math.min(requested, available) : 0;
+            available -= granted;
+            return granted > 0
+                    ? List.of((long) granted, (long) available, 0L)
+                    : List.of(0L, (long) available, 1000L);
+        }
+    }
+}
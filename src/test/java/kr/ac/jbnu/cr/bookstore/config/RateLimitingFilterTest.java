@@ -0,0 +1,135 @@
+package kr.ac.jbnu.cr.bookstore.config;
+
+import kr.ac.jbnu.cr.bookstore.security.JwtAuthentication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RateLimitingFilterTest {
+
+    private RateLimiter rateLimiter;
+    private RateLimitingFilter filter;
+    private RateLimitPolicy anonymous;
+    private RateLimitPolicy user;
+    private RateLimitPolicy orderCreate;
+
+    @BeforeEach
+    void setUp() {
+        anonymous = policy("anonymous", RateLimitPolicy.Principal.ANONYMOUS, RateLimitPolicy.Key.IP, 100);
+        RateLimitPolicy.RouteCost free = new RateLimitPolicy.RouteCost();
+        free.setMethods(List.of("GET"));
+        free.setPaths(List.of("/categories/**"));
+        free.setCost(0);
+        anonymous.setCosts(List.of(free));
+
+        user = policy("user", RateLimitPolicy.Principal.AUTHENTICATED, RateLimitPolicy.Key.USER, 300);
+        user.setRoles(List.of("USER"));
+
+        orderCreate = policy("order-create", RateLimitPolicy.Principal.ANY, RateLimitPolicy.Key.USER, 10);
+        orderCreate.setMethods(List.of("POST"));
+        orderCreate.setPaths(List.of("/orders"));
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setPolicies(List.of(anonymous, user, orderCreate));
+
+        rateLimiter = mock(RateLimiter.class);
+        when(rateLimiter.acquire(any(), anyString(), anyInt()))
+                .thenReturn(new RateLimiter.Decision(true, 42, 0));
+        filter = new RateLimitingFilter(rateLimiter, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Filter - Anonymous request is keyed by IP with quota headers")
+    void anonymous_KeyedByIp() throws Exception {
+        MockHttpServletResponse response = perform("GET", "/books");
+
+        verify(rateLimiter).acquire(anonymous, "ip:10.0.0.1", 1);
+        verify(rateLimiter, never()).acquire(eq(user), anyString(), anyInt());
+        assertThat(response.getHeader("RateLimit-Policy")).isEqualTo("\"anonymous\";q=100;w=60");
+        assertThat(response.getHeader("RateLimit")).isEqualTo("\"anonymous\";r=42");
+        assertThat(response.getHeader("X-RateLimit-Remaining")).isEqualTo("42");
+    }
+
+    @Test
+    @DisplayName("Filter - Zero-cost route is not counted")
+    void freeRoute_NotCounted() throws Exception {
+        MockHttpServletResponse response = perform("GET", "/categories/all");
+
+        verify(rateLimiter, never()).acquire(any(), anyString(), anyInt());
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Filter - Signed-in user is charged by user id on every matching policy")
+    void user_AllMatchingPoliciesCharged() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthentication(7L, "token", "USER"));
+
+        perform("POST", "/orders");
+
+        verify(rateLimiter).acquire(user, "user:7", 1);
+        verify(rateLimiter).acquire(orderCreate, "user:7", 1);
+        verify(rateLimiter, never()).acquire(eq(anonymous), anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Filter - Exhausted policy rejects with 429 and Retry-After")
+    void exhausted_Rejected() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthentication(7L, "token", "USER"));
+        when(rateLimiter.acquire(eq(orderCreate), anyString(), anyInt()))
+                .thenReturn(new RateLimiter.Decision(false, 0, 1500));
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = perform("POST", "/orders", chain);
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(response.getHeader("RateLimit")).isEqualTo("\"order-create\";r=0;t=2");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    private MockHttpServletResponse perform(String method, String path) throws Exception {
+        return perform(method, path, new MockFilterChain());
+    }
+
+    private MockHttpServletResponse perform(String method, String path, MockFilterChain chain) throws Exception {
+        // Deployed under server.servlet.context-path, so the URI carries the /api prefix
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api" + path);
+        request.setContextPath("/api");
+        request.setServletPath(path);
+        request.setRemoteAddr("10.0.0.1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private RateLimitPolicy policy(String name, RateLimitPolicy.Principal principal, RateLimitPolicy.Key key, int limit) {
+        RateLimitPolicy policy = new RateLimitPolicy();
+        policy.setName(name);
+        policy.setPrincipal(principal);
+        policy.setKey(key);
+        policy.setLimit(limit);
+        return policy;
+    }
+}
@@ -0,0 +1,206 @@
+package kr.ac.jbnu.cr.bookstore.config;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Just enough of a Redis server (RESP2 GET, SET, SETEX, DEL, KEYS, PING, SUBSCRIBE) for the
+ * cache, filters and listener containers to talk to, which can be stopped and restarted on
+ * the same port to simulate an outage.
+ * Data survives a restart, like a Redis node that was only unreachable.
+ */
+class RedisStandIn implements AutoCloseable {
+
+    private final Map<String, byte[]> data = new ConcurrentHashMap<>();
+    private final Set<Socket> clients = ConcurrentHashMap.newKeySet();
+    private volatile ServerSocket serverSocket;
+    private int port;
+
+    void start() throws IOException {
+        ServerSocket socket = new ServerSocket();
+        socket.setReuseAddress(true);
+        socket.bind(new InetSocketAddress("localhost", port));
+        port = socket.getLocalPort();
+        serverSocket = socket;
+        Thread.ofVirtual().start(() -> acceptLoop(socket));
+    }
+
+    void stop() throws IOException {
+        ServerSocket socket = serverSocket;
+        serverSocket = null;
+        if (socket != null) {
+            socket.close();
+        }
+        for (Socket client : clients) {
+            client.close();
+        }
+        clients.clear();
+    }
+
+    int getPort() {
+        return port;
+    }
+
+    boolean containsKey(String key) {
+        return data.containsKey(key);
+    }
+
+    @Override
+    public void close() throws IOException {
+        stop();
+    }
+
+    private void acceptLoop(ServerSocket socket) {
+        while (!socket.isClosed()) {
+            try {
+                Socket client = socket.accept();
+                clients.add(client);
+                Thread.ofVirtual().start(() -> serve(client));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket client) {
+        try (client) {
+            InputStream in = new BufferedInputStream(client.getInputStream());
+            OutputStream out = client.getOutputStream();
+            List<byte[]> command;
+            while ((command = readCommand(in)) != null) {
+                out.write(execute(command));
+                out.flush();
+            }
+        } catch (IOException e) {
+            // Client went away or the stand-in was stopped
+        } finally {
+            clients.remove(client);
+        }
+    }
+
+    private byte[] execute(List<byte[]> command) {
+        String name = new String(command.get(0), StandardCharsets.UTF_8).toUpperCase();
+        switch (name) {
+            case "PING":
+                return simple("PONG");
+            case "CLIENT":
+            case "SELECT":
+                return simple("OK");
+            case "GET":
+                return bulk(data.get(key(command, 1)));
+            case "SET":
+                // Expiry options are accepted and ignored
+                boolean ifAbsent = command.stream().skip(3)
+                        .anyMatch(option -> "NX".equalsIgnoreCase(new String(option, StandardCharsets.UTF_8)));
+                if (ifAbsent) {
+                    return data.putIfAbsent(key(command, 1), command.get(2)) == null ? simple("OK") : bulk(null);
+                }
+                data.put(key(command, 1), command.get(2));
+                return simple("OK");
+            case "SETEX":
+            case "PSETEX":
+                data.put(key(command, 1), command.get(3));
+                return simple("OK");
+            case "DEL":
+                int removed = 0;
+                for (int i = 1; i < command.size(); i++) {
+                    removed += data.remove(key(command, i)) != null ? 1 : 0;
+                }
+                return (":" + removed + "\r\n").getBytes(StandardCharsets.UTF_8);
+            case "KEYS":
+                Pattern pattern = glob(key(command, 1));
+                ByteArrayOutputStream reply = new ByteArrayOutputStream();
+                List<String> matches = data.keySet().stream().filter(k -> pattern.matcher(k).matches()).toList();
+                reply.writeBytes(("*" + matches.size() + "\r\n").getBytes(StandardCharsets.UTF_8));
+                matches.forEach(k -> reply.writeBytes(bulk(k.getBytes(StandardCharsets.UTF_8))));
+                return reply.toByteArray();
+            case "SUBSCRIBE":
+            case "UNSUBSCRIBE":
+                // Confirms each channel; nothing is ever published
+                ByteArrayOutputStream confirmations = new ByteArrayOutputStream();
+                for (int i = 1; i < command.size(); i++) {
+                    confirmations.writeBytes("*3\r\n".getBytes(StandardCharsets.UTF_8));
+                    confirmations.writeBytes(bulk(name.toLowerCase().getBytes(StandardCharsets.UTF_8)));
+                    confirmations.writeBytes(bulk(command.get(i)));
+                    confirmations.writeBytes((":" + (name.equals("SUBSCRIBE") ? i : 0) + "\r\n")
+                            .getBytes(StandardCharsets.UTF_8));
+                }
+                return confirmations.toByteArray();
+            default:
+                return ("-ERR unknown command '" + name + "'\r\n").getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private static List<byte[]> readCommand(InputStream in) throws IOException {
+        String header = readLine(in);
+        if (header == null) {
+            return null;
+        }
+        int count = Integer.parseInt(header.substring(1));
+        List<byte[]> arguments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = Integer.parseInt(readLine(in).substring(1));
+            byte[] argument = in.readNBytes(length);
+            in.readNBytes(2);
+            arguments.add(argument);
+        }
+        return arguments;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = in.read()) != -1) {
+            if (c == '\r') {
+                in.read();
+                return line.toString();
+            }
+            line.append((char) c);
+        }
+        return null;
+    }
+
+    private static String key(List<byte[]> command, int index) {
+        return new String(command.get(index), StandardCharsets.UTF_8);
+    }
+
+    private static Pattern glob(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (char c : glob.toCharArray()) {
+            switch (c) {
+                case '*' -> regex.append(".*");
+                case '?' -> regex.append('.');
+                default -> regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    private static byte[] simple(String value) {
+        return ("+" + value + "\r\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bulk(byte[] value) {
+        if (value == null) {
+            return "$-1\r\n".getBytes(StandardCharsets.UTF_8);
+        }
+        ByteArrayOutputStream reply = new ByteArrayOutputStream();
+        reply.writeBytes(("$" + value.length + "\r\n").getBytes(StandardCharsets.UTF_8));
+        reply.writeBytes(value);
+        reply.writeBytes("\r\n".getBytes(StandardCharsets.UTF_8));
+        return reply.toByteArray();
+    }
+}
@@ -0,0 +1,83 @@
+package kr.ac.jbnu.cr.bookstore.config;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.protocol.ProtocolVersion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisSubscriptionStarterTest {
+
+    private RedisStandIn redis;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisMessageListenerContainer container;
+    private RedisSubscriptionStarter starter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = new RedisStandIn();
+        // Reserve a port, then take Redis down before anything connects
+        redis.start();
+        redis.stop();
+
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .commandTimeout(Duration.ofMillis(200))
+                .clientOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP2).build())
+                .build();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration("localhost", redis.getPort()), clientConfiguration);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> { }, new ChannelTopic("events"));
+        container.afterPropertiesSet();
+        starter = new RedisSubscriptionStarter(container, Duration.ofMillis(100));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        starter.stop();
+        container.destroy();
+        connectionFactory.destroy();
+        redis.close();
+    }
+
+    @Test
+    @DisplayName("Starter - Redis down does not block or fail startup")
+    void start_RedisDown_ReturnsImmediately() throws Exception {
+        long start = System.nanoTime();
+        starter.start();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(500));
+        Thread.sleep(300);
+        assertThat(starter.isRunning()).isTrue();
+        assertThat(starter.isSubscribed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Starter - Subscribes once Redis comes back")
+    void start_RedisRecovers_Subscribes() throws Exception {
+        starter.start();
+        Thread.sleep(300);
+
+        redis.start();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!starter.isSubscribed() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(starter.isSubscribed()).isTrue();
+    }
+}
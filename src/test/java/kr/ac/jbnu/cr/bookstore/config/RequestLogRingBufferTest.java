@@ -0,0 +1,96 @@
+package kr.ac.jbnu.cr.bookstore.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestLogRingBufferTest {
+
+    @Test
+    @DisplayName("Offer - Entries are drained in order")
+    void offer_DrainedInOrder() {
+        RequestLogRingBuffer buffer = new RequestLogRingBuffer(8);
+        for (long id = 1; id <= 5; id++) {
+            buffer.offer(id, 0, "GET", "/books", null, 200, 10);
+        }
+
+        List<Long> ids = new ArrayList<>();
+        int drained = buffer.drain(entry -> ids.add(entry.requestId), 100);
+
+        assertThat(drained).isEqualTo(5);
+        assertThat(ids).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(buffer.drain(entry -> ids.add(entry.requestId), 100)).isZero();
+    }
+
+    @Test
+    @DisplayName("Offer - Full buffer rejects until drained")
+    void offer_FullBufferRejects() {
+        RequestLogRingBuffer buffer = new RequestLogRingBuffer(4);
+        for (long id = 1; id <= 4; id++) {
+            assertThat(buffer.offer(id, 0, "GET", "/books", null, 200, 10)).isTrue();
+        }
+
+        assertThat(buffer.offer(5, 0, "GET", "/books", null, 200, 10)).isFalse();
+
+        buffer.drain(entry -> { }, 1);
+        assertThat(buffer.offer(6, 0, "GET", "/books", null, 200, 10)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Offer - Concurrent producers lose nothing while the consumer keeps up")
+    void offer_ConcurrentProducers() throws InterruptedException {
+        RequestLogRingBuffer buffer = new RequestLogRingBuffer(1024);
+        int producers = 8;
+        int perProducer = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+        Map<Integer, Long> lastSeen = new HashMap<>();
+        long[] received = new long[1];
+        boolean[] ordered = {true};
+
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            executor.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    // Producer in the status field, sequence in the id
+                    while (!buffer.offer(i, 0, "GET", "/books", null, producer, 0)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        while (received[0] < (long) producers * perProducer) {
+            buffer.drain(entry -> {
+                Long previous = lastSeen.put(entry.status, entry.requestId);
+                if (previous != null && previous + 1 != entry.requestId) {
+                    ordered[0] = false;
+                }
+                received[0]++;
+            }, 256);
+        }
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        assertThat(received[0]).isEqualTo((long) producers * perProducer);
+        assertThat(ordered[0]).isTrue();
+    }
+
+    @Test
+    @DisplayName("Constructor - Capacity must be a power of two")
+    void constructor_RejectsOddCapacity() {
+        assertThatThrownBy(() -> new RequestLogRingBuffer(1000)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,99 @@
+package kr.ac.jbnu.cr.bookstore.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class RequestLoggingFilterTest {
+
+    private final RequestLogWriter writer = mock(RequestLogWriter.class);
+
+    @Test
+    @DisplayName("Filter - Unsampled successful requests are not logged")
+    void filter_SuccessNotSampled() throws Exception {
+        RequestLoggingFilter filter = new RequestLoggingFilter(writer, 0.0, Duration.ofSeconds(1));
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/books"), response(200), (req, res) -> { });
+
+        verify(writer, never()).submit(anyLong(), anyLong(), anyString(), anyString(), isNull(), anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Filter - Server errors are always logged")
+    void filter_ServerErrorAlwaysLogged() throws Exception {
+        RequestLoggingFilter filter = new RequestLoggingFilter(writer, 0.0, Duration.ofSeconds(1));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/books"), response, (req, res) -> response.setStatus(503));
+
+        verify(writer).submit(eq(1L), anyLong(), eq("GET"), eq("/books"), isNull(), eq(503), anyLong());
+    }
+
+    @Test
+    @DisplayName("Filter - Exception escaping the chain is logged as 500")
+    void filter_ExceptionLoggedAs500() {
+        RequestLoggingFilter filter = new RequestLoggingFilter(writer, 0.0, Duration.ofSeconds(1));
+        FilterChain failing = (req, res) -> {
+            throw new IllegalStateException("boom");
+        };
+
+        assertThatThrownBy(() -> filter.doFilter(new MockHttpServletRequest("POST", "/orders"), response(200), failing))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(writer).submit(anyLong(), anyLong(), eq("POST"), eq("/orders"), isNull(), eq(500), anyLong());
+    }
+
+    @Test
+    @DisplayName("Filter - Slow requests are always logged")
+    void filter_SlowRequestAlwaysLogged() throws Exception {
+        RequestLoggingFilter filter = new RequestLoggingFilter(writer, 0.0, Duration.ofMillis(10));
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/books"), response(200), (req, res) -> sleep(20));
+
+        verify(writer).submit(anyLong(), anyLong(), eq("GET"), eq("/books"), isNull(), eq(200), anyLong());
+    }
+
+    @Test
+    @DisplayName("Format - JSON lines escape request values")
+    void format_JsonEscapes() {
+        RequestLogWriter jsonWriter = new RequestLogWriter(4, "json", new SimpleMeterRegistry());
+        RequestLogRingBuffer buffer = new RequestLogRingBuffer(4);
+        buffer.offer(255, 0, "GET", "/books/\"x\"", "q=a\\b", 200, 1500);
+
+        String[] line = new String[1];
+        buffer.drain(entry -> line[0] = jsonWriter.format(entry), 1);
+
+        assertThat(line[0]).isEqualTo("{\"timestamp\":\"1970-01-01T00:00:00Z\",\"requestId\":\"ff\",\"method\":\"GET\","
+                + "\"path\":\"/books/\\\"x\\\"\",\"query\":\"q=a\\\\b\",\"status\":200,\"durationMs\":1.5}");
+    }
+
+    private static MockHttpServletResponse response(int status) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(status);
+        return response;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package kr.ac.jbnu.cr.bookstore.config;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fault injection against a Redis stand-in that is stopped and restarted mid-test
+ */
+class ResilientCacheManagerTest {
+
+    private RedisStandIn redis;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisCircuitBreaker circuitBreaker;
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = new RedisStandIn();
+        redis.start();
+
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .commandTimeout(Duration.ofMillis(200))
+                .clientOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP2).build())
+                .build();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration("localhost", redis.getPort()), clientConfiguration);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofMinutes(1)))
+                .build();
+        redisCacheManager.afterPropertiesSet();
+
+        circuitBreaker = new RedisCircuitBreaker(2, Duration.ofMillis(300), Duration.ofSeconds(1),
+                new SimpleMeterRegistry());
+        cache = new ResilientCacheManager(redisCacheManager, circuitBreaker, 100, 60_000).getCache("books");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connectionFactory.destroy();
+        redis.close();
+    }
+
+    @Test
+    @DisplayName("Cache - Reads and writes go to Redis while it is up")
+    void cache_RedisUp_UsesRedis() {
+        cache.put(1L, "Dune");
+
+        assertThat(cache.get(1L, String.class)).isEqualTo("Dune");
+        assertThat(redis.containsKey("books::1")).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Cache - Outage opens the breaker and serves from memory without waiting on Redis")
+    void cache_RedisDown_FallsBackLocally() throws Exception {
+        redis.stop();
+        cache.get(1L);
+        cache.get(1L);
+        assertThat(circuitBreaker.getState()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+
+        long start = System.nanoTime();
+        cache.put(2L, "Emma");
+        String value = cache.get(2L, String.class);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(value).isEqualTo("Emma");
+        assertThat(elapsedMillis).isLessThan(100);
+    }
+
+    @Test
+    @DisplayName("Cache - Breaker closes once Redis is back and clears entries changed during the outage")
+    void cache_RedisRecovers_ClosesAndDropsStaleEntries() throws Exception {
+        cache.put(1L, "Dune");
+        redis.stop();
+        cache.get(1L);
+        cache.get(1L);
+        // Evicted while Redis could not hear about it, so Redis still holds the old copy
+        cache.evict(1L);
+        assertThat(redis.containsKey("books::1")).isTrue();
+
+        redis.start();
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (circuitBreaker.getState() != RedisCircuitBreaker.State.CLOSED && System.currentTimeMillis() < deadline) {
+            cache.get(3L);
+            Thread.sleep(50);
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+        assertThat(cache.get(1L)).isNull();
+        assertThat(redis.containsKey("books::1")).isFalse();
+    }
+}
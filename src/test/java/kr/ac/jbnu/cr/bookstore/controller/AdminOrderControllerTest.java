@@ -0,0 +1,79 @@
+package kr.ac.jbnu.cr.bookstore.controller;
+
+import kr.ac.jbnu.cr.bookstore.model.ExportFormat;
+import kr.ac.jbnu.cr.bookstore.service.OrderEventBroadcaster;
+import kr.ac.jbnu.cr.bookstore.service.OrderExportService;
+import kr.ac.jbnu.cr.bookstore.service.OrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class AdminOrderControllerTest {
+
+    private OrderExportService orderExportService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        orderExportService = mock(OrderExportService.class);
+        AdminOrderController controller = new AdminOrderController(
+                mock(OrderService.class), orderExportService, mock(OrderEventBroadcaster.class));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    @DisplayName("GET /admin/orders/export - Gzip when the client accepts it")
+    void export_GzipAccepted_Compressed() throws Exception {
+        MvcResult result = export("deflate, gzip;q=0.5");
+
+        assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        verify(orderExportService).export(isNull(), isNull(), isNull(), eq(ExportFormat.CSV), eq(true), any());
+    }
+
+    @Test
+    @DisplayName("GET /admin/orders/export - Gzip declined with q=0 is sent uncompressed")
+    void export_GzipDeclined_Uncompressed() throws Exception {
+        MvcResult result = export("gzip;q=0, identity");
+
+        assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        verify(orderExportService).export(isNull(), isNull(), isNull(), eq(ExportFormat.CSV), eq(false), any());
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding - Parsed per coding with q values and wildcard")
+    void acceptsGzip_Parsing() {
+        assertThat(AdminOrderController.acceptsGzip("gzip")).isTrue();
+        assertThat(AdminOrderController.acceptsGzip("br, GZIP ; q=0.8")).isTrue();
+        assertThat(AdminOrderController.acceptsGzip("*")).isTrue();
+        assertThat(AdminOrderController.acceptsGzip("gzip;q=0, *;q=1")).isFalse();
+        assertThat(AdminOrderController.acceptsGzip("gzip;q=0.0")).isFalse();
+        assertThat(AdminOrderController.acceptsGzip("*;q=0")).isFalse();
+        assertThat(AdminOrderController.acceptsGzip("x-gzip-ish, notgzip")).isFalse();
+        assertThat(AdminOrderController.acceptsGzip(null)).isFalse();
+    }
+
+    private MvcResult export(String acceptEncoding) throws Exception {
+        MvcResult started = mockMvc.perform(get("/admin/orders/export")
+                        .header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding))
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn();
+    }
+}
@@ -0,0 +1,36 @@
+package kr.ac.jbnu.cr.bookstore.security;
+
+import kr.ac.jbnu.cr.bookstore.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AccessTokenBlocklistTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Test
+    @DisplayName("Revoke - Redis down fails with 503 and the token stays usable")
+    void revoke_RedisDown_ServiceUnavailable() {
+        when(redisTemplate.opsForValue()).thenThrow(new RedisConnectionFailureException("down"));
+        AccessTokenBlocklist blocklist = new AccessTokenBlocklist(redisTemplate, 1000, 0.001);
+        TokenClaims accessToken = new TokenClaims("jti-1", 1L, "USER", null, null,
+                Instant.now().plusSeconds(3600));
+
+        assertThatThrownBy(() -> blocklist.revoke(accessToken))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(blocklist.isRevoked(accessToken)).isFalse();
+    }
+}
@@ -0,0 +1,48 @@
+package kr.ac.jbnu.cr.bookstore.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    private static final int ENTRIES = 10_000;
+
+    @Test
+    @DisplayName("Bloom filter - No false negatives")
+    void mightContain_AddedKeys() {
+        BloomFilter filter = new BloomFilter(ENTRIES, 0.001);
+        String[] keys = new String[ENTRIES];
+        for (int i = 0; i < ENTRIES; i++) {
+            keys[i] = UUID.randomUUID().toString();
+            filter.add(keys[i]);
+        }
+
+        for (String key : keys) {
+            assertThat(filter.mightContain(key)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Bloom filter - False positive rate stays near the target")
+    void mightContain_FalsePositiveRate() {
+        BloomFilter filter = new BloomFilter(ENTRIES, 0.001);
+        for (int i = 0; i < ENTRIES; i++) {
+            filter.add(UUID.randomUUID().toString());
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        // Target is 0.1%; allow generous slack for hash quality and randomness
+        assertThat((double) falsePositives / probes).isLessThan(0.005);
+    }
+}
@@ -0,0 +1,74 @@
+package kr.ac.jbnu.cr.bookstore.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ac.jbnu.cr.bookstore.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Encode - Hashes on the pool and records latency")
+    void encode_MatchesAndRecords() {
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(4, 2, 8, Duration.ofSeconds(5), meterRegistry)) {
+            String hash = encoder.encode("password123");
+
+            assertThat(encoder.matches("password123", hash)).isTrue();
+            assertThat(encoder.matches("wrong", hash)).isFalse();
+            assertThat(meterRegistry.get("auth.password.hash").tag("operation", "encode").timer().count())
+                    .isEqualTo(1);
+            assertThat(meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count())
+                    .isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("Encode - Full queue fails fast with 503")
+    void encode_QueueFull_Rejected() throws InterruptedException {
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(13, 1, 1, Duration.ofSeconds(30), meterRegistry)) {
+            // One hash running and one queued fill the pool
+            CompletableFuture.runAsync(() -> encoder.encode("first"));
+            CompletableFuture.runAsync(() -> encoder.encode("second"));
+            long deadline = System.currentTimeMillis() + 5000;
+            while (meterRegistry.get("auth.password.queue.depth").gauge().value() < 1
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertThatThrownBy(() -> encoder.encode("third"))
+                    .isInstanceOf(ServiceUnavailableException.class);
+            assertThat(meterRegistry.get("auth.password.rejected").counter().count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Encode - Waiting past the timeout fails with 503")
+    void encode_Timeout_Rejected() {
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(13, 1, 1, Duration.ofMillis(1), meterRegistry)) {
+            assertThatThrownBy(() -> encoder.encode("password123"))
+                    .isInstanceOf(ServiceUnavailableException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Upgrade encoding - Hash with a different cost needs a rehash")
+    void upgradeEncoding_CostChanged() {
+        try (BoundedPasswordEncoder weaker = new BoundedPasswordEncoder(4, 1, 1, Duration.ofSeconds(5), meterRegistry);
+             BoundedPasswordEncoder current = new BoundedPasswordEncoder(5, 1, 1, Duration.ofSeconds(5), new SimpleMeterRegistry())) {
+            String oldHash = weaker.encode("password123");
+            String newHash = current.encode("password123");
+
+            assertThat(current.upgradeEncoding(oldHash)).isTrue();
+            assertThat(current.upgradeEncoding(newHash)).isFalse();
+            assertThat(weaker.upgradeEncoding(newHash)).isTrue();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package kr.ac.jbnu.cr.bookstore.security;
+
+import io.jsonwebtoken.Jwts;
+import kr.ac.jbnu.cr.bookstore.exception.UnauthorizedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FirebaseIdTokenVerifierTest {
+
+    private static final String PROJECT_ID = "bookstore-test";
+
+    private final LocalIdTokenIssuer issuer = new LocalIdTokenIssuer(PROJECT_ID);
+    private final FirebaseIdTokenVerifier verifier = new FirebaseIdTokenVerifier(PROJECT_ID, issuer);
+
+    @Test
+    @DisplayName("Verify - Token from the issuer yields its identity")
+    void verify_ValidToken() {
+        SocialIdentity identity = verifier.verify(issuer.issue("test@example.com", "Test User"));
+
+        assertThat(identity.getUid()).isEqualTo("test@example.com");
+        assertThat(identity.getEmail()).isEqualTo("test@example.com");
+        assertThat(identity.getName()).isEqualTo("Test User");
+    }
+
+    @Test
+    @DisplayName("Verify - Token for another project is rejected")
+    void verify_OtherProject() {
+        LocalIdTokenIssuer otherIssuer = new LocalIdTokenIssuer("other-project");
+        String token = otherIssuer.issue("test@example.com", null);
+        // Trusts the keys that signed the token, so only issuer and audience can reject it
+        FirebaseIdTokenVerifier trustingSigner = new FirebaseIdTokenVerifier(PROJECT_ID, otherIssuer);
+
+        assertThat(new FirebaseIdTokenVerifier("other-project", otherIssuer).verify(token).getUid())
+                .isEqualTo("test@example.com");
+        assertThatThrownBy(() -> trustingSigner.verify(token)).isInstanceOf(UnauthorizedException.class);
+        assertThatThrownBy(() -> verifier.verify(token)).isInstanceOf(UnauthorizedException.class);
+    }
+
+    @Test
+    @DisplayName("Verify - Unknown key id and non-RS256 tokens are rejected")
+    void verify_BadSignature() {
+        String hmacToken = Jwts.builder()
+                .header().keyId(LocalIdTokenIssuer.KEY_ID).and()
+                .subject("uid")
+                .issuer(FirebaseIdTokenVerifier.ISSUER_PREFIX + PROJECT_ID)
+                .audience().add(PROJECT_ID).and()
+                .expiration(Date.from(Instant.now().plusSeconds(60)))
+                .claim("auth_time", Instant.now().getEpochSecond())
+                .claim("email", "test@example.com")
+                .signWith(Jwts.SIG.HS256.key().build())
+                .compact();
+
+        assertThatThrownBy(() -> verifier.verify(hmacToken)).isInstanceOf(UnauthorizedException.class);
+        assertThatThrownBy(() -> verifier.verify("not-a-token")).isInstanceOf(UnauthorizedException.class);
+    }
+}
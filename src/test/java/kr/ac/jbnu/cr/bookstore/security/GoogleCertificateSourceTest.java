@@ -0,0 +1,167 @@
+package kr.ac.jbnu.cr.bookstore.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import kr.ac.jbnu.cr.bookstore.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs against a local HTTP stub serving certificates the way Google's endpoint does
+ */
+class GoogleCertificateSourceTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private HttpServer server;
+    private final AtomicInteger fetches = new AtomicInteger();
+    private volatile int status = 200;
+    private volatile String cacheControl = "public, max-age=3600, must-revalidate";
+    private volatile Map<String, String> certificates;
+    private String url;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        certificates = Map.of("key-1", pem("google-cert-1.pem"));
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/certs", exchange -> {
+            fetches.incrementAndGet();
+            byte[] body = OBJECT_MAPPER.writeValueAsBytes(certificates);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            if (cacheControl != null) {
+                exchange.getResponseHeaders().add("Cache-Control", cacheControl);
+            }
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        url = "http://localhost:" + server.getAddress().getPort() + "/certs";
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Certificates - Fetched once and reused for their max-age")
+    void getKey_CachedForMaxAge() {
+        GoogleCertificateSource source = source(Duration.ofSeconds(30));
+
+        assertThat(source.getKey("key-1")).isPresent();
+        assertThat(source.getKey("key-1")).isPresent();
+
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Certificates - Expired after max-age and fetched again")
+    void getKey_RefetchedAfterMaxAge() throws Exception {
+        cacheControl = "public, max-age=1";
+        GoogleCertificateSource source = source(Duration.ofSeconds(30));
+
+        assertThat(source.getKey("key-1")).isPresent();
+        Thread.sleep(1100);
+        assertThat(source.getKey("key-1")).isPresent();
+
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Certificates - Unknown key id triggers a refetch at most once per interval")
+    void getKey_UnknownKeyId_ThrottledRefetch() throws Exception {
+        GoogleCertificateSource source = source(Duration.ofSeconds(1));
+        assertThat(source.getKey("key-1")).isPresent();
+
+        // Right after a fetch an unknown key id does not hit the endpoint again
+        assertThat(source.getKey("key-2")).isEmpty();
+        assertThat(source.getKey("key-2")).isEmpty();
+        assertThat(fetches).hasValue(1);
+
+        // Once the interval has passed it does, and picks up a rotated-in key
+        certificates = Map.of("key-1", pem("google-cert-1.pem"), "key-2", pem("google-cert-2.pem"));
+        Thread.sleep(1100);
+        assertThat(source.getKey("key-2")).isPresent();
+        assertThat(fetches).hasValue(2);
+
+        assertThat(source.getKey("key-3")).isEmpty();
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Certificates - Failed fetch keeps serving the previous keys")
+    void getKey_FetchFails_ServesStaleKeys() throws Exception {
+        cacheControl = "max-age=1";
+        GoogleCertificateSource source = source(Duration.ofSeconds(30));
+        assertThat(source.getKey("key-1")).isPresent();
+
+        status = 503;
+        Thread.sleep(1100);
+
+        assertThat(source.getKey("key-1")).isPresent();
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Certificates - Nothing cached and endpoint failing is a 503")
+    void getKey_NoKeysAndFetchFails_ServiceUnavailable() {
+        status = 500;
+        GoogleCertificateSource source = source(Duration.ofSeconds(30));
+
+        assertThatThrownBy(() -> source.getKey("key-1")).isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("Certificates - Missing Cache-Control falls back to a default lifetime")
+    void getKey_NoMaxAge_UsesDefault() {
+        cacheControl = null;
+        GoogleCertificateSource source = source(Duration.ofSeconds(30));
+
+        assertThat(source.getKey("key-1")).isPresent();
+        assertThat(source.getKey("key-1")).isPresent();
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Certificates - Scheduled check fetches ahead of expiry")
+    void refreshIfStale_FetchesBeforeExpiry() {
+        cacheControl = "max-age=60";
+        GoogleCertificateSource source = new GoogleCertificateSource(url, Duration.ofMinutes(5),
+                Duration.ofSeconds(30), OBJECT_MAPPER);
+        source.refreshIfStale();
+        assertThat(fetches).hasValue(1);
+
+        // Expires within the refresh-ahead window, so the next check fetches again
+        source.refreshIfStale();
+        assertThat(fetches).hasValue(2);
+        assertThat(source.getKey("key-1")).isPresent();
+        assertThat(fetches).hasValue(2);
+    }
+
+    private GoogleCertificateSource source(Duration minRefetchInterval) {
+        return new GoogleCertificateSource(url, Duration.ofSeconds(1), minRefetchInterval, OBJECT_MAPPER);
+    }
+
+    private static String pem(String name) throws IOException {
+        try (InputStream in = GoogleCertificateSourceTest.class.getResourceAsStream("/security/" + name)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package kr.ac.jbnu.cr.bookstore.security;
+
+import kr.ac.jbnu.cr.bookstore.model.Role;
+import kr.ac.jbnu.cr.bookstore.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "47e5afc67cd3547f25c22fb578679afd";
+
+    private JwtService jwtService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(SECRET, 3600000, 86400000, "bookstore-test", 100);
+        user = User.builder()
+                .id(1L)
+                .email("test@example.com")
+                .username("testuser")
+                .role(Role.ADMIN)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Parse - Valid token yields user and role from a single parse")
+    void parse_ValidToken() {
+        String token = jwtService.createToken(user);
+
+        TokenClaims claims = jwtService.parse(token).orElseThrow();
+
+        assertThat(claims.getUserId()).isEqualTo(1L);
+        assertThat(claims.getRole()).isEqualTo("ADMIN");
+        assertThat(claims.getExpiresAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Parse - Repeated token is served from the verified cache")
+    void parse_RepeatedToken_Cached() {
+        String token = jwtService.createToken(user);
+
+        TokenClaims first = jwtService.parse(token).orElseThrow();
+        TokenClaims second = jwtService.parse(token).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("Parse - Tampered or foreign tokens are rejected")
+    void parse_InvalidToken() {
+        String token = jwtService.createToken(user);
+        String foreign = new JwtService("another-secret-another-secret-xx", 3600000, 86400000, "other", 100)
+                .createToken(user);
+
+        assertThat(jwtService.parse(token.substring(0, token.length() - 2) + "xx")).isEmpty();
+        assertThat(jwtService.parse(foreign)).isEmpty();
+        assertThat(jwtService.parse("not-a-token")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Parse - Expired token is not served from the cache")
+    void parse_ExpiredToken_NotCached() throws InterruptedException {
+        JwtService shortLived = new JwtService(SECRET, 2000, 86400000, "bookstore-test", 100);
+        String token = shortLived.createToken(user);
+        assertThat(shortLived.parse(token)).isPresent();
+
+        // exp has second precision: the token is valid for at least one second, gone after two
+        Thread.sleep(2100);
+
+        assertThat(shortLived.parse(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Refresh token - Carries its own id and the family it rotates in")
+    void createRefreshToken_KeepsFamily() {
+        TokenClaims first = jwtService.parse(jwtService.createRefreshToken(user)).orElseThrow();
+        TokenClaims second = jwtService.parse(jwtService.createRefreshToken(user, first.getFamily())).orElseThrow();
+
+        assertThat(first.isRefreshToken()).isTrue();
+        assertThat(second.getFamily()).isEqualTo(first.getFamily());
+        assertThat(second.getTokenId()).isNotEqualTo(first.getTokenId());
+        assertThat(jwtService.parse(jwtService.createToken(user)).orElseThrow().isRefreshToken()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Verified cache - Evicts least recently used entries beyond its size")
+    void verifiedCache_IsBounded() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2);
+        TokenClaims claims = new TokenClaims("jti", 1L, "USER", null, null, null);
+
+        cache.put("a", claims);
+        cache.put("b", claims);
+        cache.get("a", Instant.now());
+        cache.put("c", claims);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("b", Instant.now())).isNull();
+        assertThat(cache.get("a", Instant.now())).isNotNull();
+    }
+}
@@ -0,0 +1,69 @@
+package kr.ac.jbnu.cr.bookstore.security;
+
+import kr.ac.jbnu.cr.bookstore.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenStoreTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private RefreshTokenStore store;
+    private TokenClaims presented;
+    private TokenClaims next;
+
+    @BeforeEach
+    void setUp() {
+        store = new RefreshTokenStore(redisTemplate);
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+        presented = new TokenClaims("jti-1", 1L, null, TokenClaims.REFRESH, "family-1", expiresAt);
+        next = new TokenClaims("jti-2", 1L, null, TokenClaims.REFRESH, "family-1", expiresAt);
+    }
+
+    @Test
+    @DisplayName("Rotate - Live token is replaced by its successor")
+    void rotate_LiveToken_Rotated() {
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(),
+                anyString(), anyString(), anyString())).thenReturn(1L);
+
+        assertThat(store.rotate(presented, next)).isEqualTo(RefreshTokenStore.Rotation.ROTATED);
+    }
+
+    @Test
+    @DisplayName("Rotate - Redis down fails with 503 instead of an internal error")
+    void rotate_RedisDown_ServiceUnavailable() {
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(),
+                anyString(), anyString(), anyString()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThatThrownBy(() -> store.rotate(presented, next))
+                .isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("Revoke family - Redis down fails with 503 instead of an internal error")
+    void revokeFamily_RedisDown_ServiceUnavailable() {
+        when(redisTemplate.delete(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThatThrownBy(() -> store.revokeFamily("family-1"))
+                .isInstanceOf(ServiceUnavailableException.class);
+    }
+}
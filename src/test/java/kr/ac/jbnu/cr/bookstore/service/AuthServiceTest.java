@@ -2,12 +2,18 @@ package kr.ac.jbnu.cr.bookstore.service;
 
 import kr.ac.jbnu.cr.bookstore.dto.request.LoginRequest;
 import kr.ac.jbnu.cr.bookstore.dto.request.RegisterRequest;
+import kr.ac.jbnu.cr.bookstore.dto.request.SocialLoginRequest;
 import kr.ac.jbnu.cr.bookstore.dto.response.AuthResponse;
 import kr.ac.jbnu.cr.bookstore.exception.DuplicateResourceException;
 import kr.ac.jbnu.cr.bookstore.exception.UnauthorizedException;
 import kr.ac.jbnu.cr.bookstore.model.User;
 import kr.ac.jbnu.cr.bookstore.repository.UserRepository;
+import kr.ac.jbnu.cr.bookstore.security.AccessTokenBlocklist;
+import kr.ac.jbnu.cr.bookstore.security.IdTokenVerifier;
 import kr.ac.jbnu.cr.bookstore.security.JwtService;
+import kr.ac.jbnu.cr.bookstore.security.RefreshTokenStore;
+import kr.ac.jbnu.cr.bookstore.security.SocialIdentity;
+import kr.ac.jbnu.cr.bookstore.security.TokenClaims;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,12 +23,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Instant;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +46,15 @@ class AuthServiceTest {
     @Mock
     private JwtService jwtService;
 
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+
+    @Mock
+    private AccessTokenBlocklist accessTokenBlocklist;
+
+    @Mock
+    private IdTokenVerifier idTokenVerifier;
+
     @InjectMocks
     private AuthService authService;
 
@@ -141,4 +159,111 @@ class AuthServiceTest {
                 .isInstanceOf(UnauthorizedException.class)
                 .hasMessageContaining("Account is deactivated");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Login - Hash with an outdated cost is replaced")
+    void login_OutdatedHash_Rehashed() {
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("encodedPassword")).thenReturn(true);
+        when(passwordEncoder.encode("password123")).thenReturn("rehashedPassword");
+
+        authService.login(loginRequest);
+
+        assertThat(testUser.getPasswordHash()).isEqualTo("rehashedPassword");
+        verify(userRepository).save(testUser);
+    }
+
+    @Test
+    @DisplayName("Social login - Verified identity creates the user")
+    void socialLogin_NewUser() {
+        SocialLoginRequest request = new SocialLoginRequest();
+        request.setToken("idToken");
+        when(idTokenVerifier.verify("idToken"))
+                .thenReturn(new SocialIdentity("uid-12345", "test@example.com", "testuser"));
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.empty());
+        when(passwordEncoder.encode("SOCIAL_uid-12345")).thenReturn("encodedPassword");
+        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        when(jwtService.createToken(testUser)).thenReturn("accessToken");
+
+        AuthResponse response = authService.socialLogin(request);
+
+        assertThat(response.getAccessToken()).isEqualTo("accessToken");
+        assertThat(response.getUser().getEmail()).isEqualTo("test@example.com");
+    }
+
+    @Test
+    @DisplayName("Social login - Invalid ID token is rejected")
+    void socialLogin_InvalidToken() {
+        SocialLoginRequest request = new SocialLoginRequest();
+        request.setToken("idToken");
+        when(idTokenVerifier.verify("idToken")).thenThrow(new UnauthorizedException("Invalid ID token"));
+
+        assertThatThrownBy(() -> authService.socialLogin(request))
+                .isInstanceOf(UnauthorizedException.class);
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    @DisplayName("Refresh - Rotates the token within its family")
+    void refresh_Success() {
+        TokenClaims presented = refreshClaims("jti-1");
+        TokenClaims next = refreshClaims("jti-2");
+        when(jwtService.parse("refreshToken")).thenReturn(Optional.of(presented));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(jwtService.createRefreshToken(testUser, "family")).thenReturn("newRefreshToken");
+        when(jwtService.parse("newRefreshToken")).thenReturn(Optional.of(next));
+        when(refreshTokenStore.rotate(presented, next)).thenReturn(RefreshTokenStore.Rotation.ROTATED);
+        when(jwtService.createToken(testUser)).thenReturn("newAccessToken");
+
+        AuthResponse response = authService.refresh("refreshToken");
+
+        assertThat(response.getAccessToken()).isEqualTo("newAccessToken");
+        assertThat(response.getRefreshToken()).isEqualTo("newRefreshToken");
+    }
+
+    @Test
+    @DisplayName("Refresh - Reused token is rejected")
+    void refresh_ReusedToken_ThrowsException() {
+        TokenClaims presented = refreshClaims("jti-1");
+        TokenClaims next = refreshClaims("jti-2");
+        when(jwtService.parse("refreshToken")).thenReturn(Optional.of(presented));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(jwtService.createRefreshToken(testUser, "family")).thenReturn("newRefreshToken");
+        when(jwtService.parse("newRefreshToken")).thenReturn(Optional.of(next));
+        when(refreshTokenStore.rotate(presented, next)).thenReturn(RefreshTokenStore.Rotation.REUSED);
+
+        assertThatThrownBy(() -> authService.refresh("refreshToken"))
+                .isInstanceOf(UnauthorizedException.class)
+                .hasMessageContaining("already been used");
+        verify(jwtService, never()).createToken(any(User.class));
+    }
+
+    @Test
+    @DisplayName("Refresh - Access token is rejected")
+    void refresh_AccessToken_ThrowsException() {
+        TokenClaims access = new TokenClaims("jti-1", 1L, "USER", null, null, Instant.now().plusSeconds(60));
+        when(jwtService.parse("accessToken")).thenReturn(Optional.of(access));
+
+        assertThatThrownBy(() -> authService.refresh("accessToken"))
+                .isInstanceOf(UnauthorizedException.class)
+                .hasMessageContaining("Invalid refresh token");
+    }
+
+    @Test
+    @DisplayName("Logout - Revokes access token and refresh family")
+    void logout_RevokesTokens() {
+        TokenClaims access = new TokenClaims("jti-a", 1L, "USER", null, null, Instant.now().plusSeconds(60));
+        when(jwtService.parse("accessToken")).thenReturn(Optional.of(access));
+        when(jwtService.parse("refreshToken")).thenReturn(Optional.of(refreshClaims("jti-r")));
+
+        authService.logout("accessToken", "refreshToken");
+
+        verify(accessTokenBlocklist).revoke(access);
+        verify(refreshTokenStore).revokeFamily("family");
+    }
+
+    private TokenClaims refreshClaims(String tokenId) {
+        return new TokenClaims(tokenId, 1L, null, TokenClaims.REFRESH, "family", Instant.now().plusSeconds(600));
+    }
+}
@@ -1,7 +1,9 @@
 package kr.ac.jbnu.cr.bookstore.service;
 
+import kr.ac.jbnu.cr.bookstore.dto.request.CartBulkRequest;
 import kr.ac.jbnu.cr.bookstore.dto.request.CartItemRequest;
 import kr.ac.jbnu.cr.bookstore.dto.request.CartItemUpdateRequest;
+import kr.ac.jbnu.cr.bookstore.exception.BadRequestException;
 import kr.ac.jbnu.cr.bookstore.exception.ResourceNotFoundException;
 import kr.ac.jbnu.cr.bookstore.model.Book;
 import kr.ac.jbnu.cr.bookstore.model.Cart;
@@ -21,11 +23,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -153,13 +158,14 @@ class CartServiceTest {
     void addItem_NewItem_Success() {
         when(cartRepository.findByUserId(1L)).thenReturn(Optional.of(testCart));
         when(bookRepository.findByIdAndIsActiveTrue(1L)).thenReturn(Optional.of(testBook));
-        when(cartItemRepository.findByCartIdAndBookId(1L, 1L)).thenReturn(Optional.empty());
         when(cartItemRepository.save(any(CartItem.class))).thenReturn(testCartItem);
 
         Cart result = cartService.addItem(1L, cartItemRequest);
 
-        assertThat(result).isNotNull();
+        assertThat(result).isSameAs(testCart);
+        assertThat(result.getItems()).hasSize(1);
         verify(cartItemRepository, times(1)).save(any(CartItem.class));
+        verify(cartRepository, times(1)).findByUserId(1L);
     }
 
     @Test
@@ -167,13 +173,24 @@ class CartServiceTest {
     void addItem_ExistingItem_UpdatesQuantity() {
         testCart.getItems().add(testCartItem);
         when(cartRepository.findByUserId(1L)).thenReturn(Optional.of(testCart));
-        when(bookRepository.findByIdAndIsActiveTrue(1L)).thenReturn(Optional.of(testBook));
-        when(cartItemRepository.findByCartIdAndBookId(1L, 1L)).thenReturn(Optional.of(testCartItem));
         when(cartItemRepository.save(any(CartItem.class))).thenReturn(testCartItem);
 
         cartService.addItem(1L, cartItemRequest);
 
         assertThat(testCartItem.getQuantity()).isEqualTo(4);
+        verify(bookRepository, never()).findByIdAndIsActiveTrue(any());
+        verify(cartRepository, times(1)).findByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("Add item - Existing item with inactive book throws exception")
+    void addItem_ExistingItemInactiveBook_ThrowsException() {
+        testBook.setIsActive(false);
+        testCart.getItems().add(testCartItem);
+        when(cartRepository.findByUserId(1L)).thenReturn(Optional.of(testCart));
+
+        assertThatThrownBy(() -> cartService.addItem(1L, cartItemRequest))
+                .isInstanceOf(ResourceNotFoundException.class);
     }
 
     @Test
@@ -191,19 +208,20 @@ class CartServiceTest {
     void updateItem_Success() {
         testCart.getItems().add(testCartItem);
         when(cartRepository.findByUserId(1L)).thenReturn(Optional.of(testCart));
-        when(cartItemRepository.findById(1L)).thenReturn(Optional.of(testCartItem));
         when(cartItemRepository.save(any(CartItem.class))).thenReturn(testCartItem);
 
-        cartService.updateItem(1L, 1L, cartItemUpdateRequest);
+        Cart result = cartService.updateItem(1L, 1L, cartItemUpdateRequest);
 
         assertThat(testCartItem.getQuantity()).isEqualTo(5);
+        assertThat(result).isSameAs(testCart);
+        verify(cartItemRepository, never()).findById(any());
+        verify(cartRepository, times(1)).findByUserId(1L);
     }
 
     @Test
     @DisplayName("Update item - Item not found throws exception")
     void updateItem_ItemNotFound_ThrowsException() {
         when(cartRepository.findByUserId(1L)).thenReturn(Optional.of(testCart));
-        when(cartItemRepository.findById(1L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> cartService.updateItem(1L, 1L, cartItemUpdateRequest))
                 .isInstanceOf(ResourceNotFoundException.class);
@@ -212,11 +230,10 @@ class CartServiceTest {
     @Test
     @DisplayName("Update item - Wrong cart throws exception")
     void updateItem_WrongCart_ThrowsException() {
-        Cart otherCart = Cart.builder().id(2L).build();
-        testCartItem.setCart(otherCart);
+        Cart otherCart = Cart.builder().id(2L).items(new ArrayList<>()).build();
+        otherCart.addItem(testCartItem);
 
         when(cartRepository.findByUserId(1L)).thenReturn(Optional.of(testCart));
-        when(cartItemRepository.findById(1L)).thenReturn(Optional.of(testCartItem));
 
         assertThatThrownBy(() -> cartService.updateItem(1L, 1L, cartItemUpdateRequest))
                 .isInstanceOf(ResourceNotFoundException.class);
@@ -227,24 +244,126 @@ class CartServiceTest {
     void removeItem_Success() {
         testCart.getItems().add(testCartItem);
         when(cartRepository.findByUserId(1L)).thenReturn(Optional.of(testCart));
-        when(cartItemRepository.findById(1L)).thenReturn(Optional.of(testCartItem));
         doNothing().when(cartItemRepository).delete(any(CartItem.class));
 
-        cartService.removeItem(1L, 1L);
+        Cart result = cartService.removeItem(1L, 1L);
 
         verify(cartItemRepository, times(1)).delete(testCartItem);
+        assertThat(result.getItems()).isEmpty();
+        verify(cartRepository, times(1)).findByUserId(1L);
     }
 
     @Test
     @DisplayName("Remove item - Item not found throws exception")
     void removeItem_ItemNotFound_ThrowsException() {
         when(cartRepository.findByUserId(1L)).thenReturn(Optional.of(testCart));
-        when(cartItemRepository.findById(1L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> cartService.removeItem(1L, 1L))
                 .isInstanceOf(ResourceNotFoundException.class);
     }
 
+    @Test
+    @DisplayName("Apply bulk - Adds, sets and removes in one pass")
+    void applyBulk_MixedOperations_Success() {
+        Book otherBook = Book.builder()
+                .id(2L)
+                .title("Other Book")
+                .price(BigDecimal.valueOf(10.00))
+                .isActive(true)
+                .build();
+        testCart.getItems().add(testCartItem);
+
+        CartBulkRequest request = CartBulkRequest.builder()
+                .operations(List.of(
+                        CartBulkRequest.Operation.builder().op(CartBulkRequest.Type.SET).bookId(1L).quantity(7).build(),
+                        CartBulkRequest.Operation.builder().op(CartBulkRequest.Type.ADD).bookId(2L).quantity(3).build()))
+                .build();
+
+        when(cartRepository.findByUserId(1L)).thenReturn(Optional.of(testCart));
+        when(bookRepository.findAllById(anyCollection())).thenReturn(List.of(otherBook));
+
+        Cart result = cartService.applyBulk(1L, request);
+
+        assertThat(result.getItems()).hasSize(2);
+        assertThat(testCartItem.getQuantity()).isEqualTo(7);
+        assertThat(result.findItemByBookId(2L)).get().extracting(CartItem::getQuantity).isEqualTo(3);
+        verify(bookRepository, times(1)).findAllById(anyCollection());
+        verify(cartItemRepository, times(1)).saveAll(anyList());
+        verify(cartRepository, times(1)).findByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("Apply bulk - Remove deletes existing line without loading books")
+    void applyBulk_Remove_Success() {
+        testCart.getItems().add(testCartItem);
+
+        CartBulkRequest request = CartBulkRequest.builder()
+                .operations(List.of(
+                        CartBulkRequest.Operation.builder().op(CartBulkRequest.Type.REMOVE).bookId(1L).build()))
+                .build();
+
+        when(cartRepository.findByUserId(1L)).thenReturn(Optional.of(testCart));
+
+        Cart result = cartService.applyBulk(1L, request);
+
+        assertThat(result.getItems()).isEmpty();
+        verify(bookRepository, never()).findAllById(anyCollection());
+        verify(cartItemRepository, times(1)).deleteAll(List.of(testCartItem));
+    }
+
+    @Test
+    @DisplayName("Apply bulk - Remove then add of the same book keeps the existing line")
+    void applyBulk_RemoveThenAdd_ReusesLine() {
+        testCart.getItems().add(testCartItem);
+
+        CartBulkRequest request = CartBulkRequest.builder()
+                .operations(List.of(
+                        CartBulkRequest.Operation.builder().op(CartBulkRequest.Type.REMOVE).bookId(1L).build(),
+                        CartBulkRequest.Operation.builder().op(CartBulkRequest.Type.ADD).bookId(1L).quantity(4).build()))
+                .build();
+
+        when(cartRepository.findByUserId(1L)).thenReturn(Optional.of(testCart));
+
+        Cart result = cartService.applyBulk(1L, request);
+
+        assertThat(result.getItems()).containsExactly(testCartItem);
+        assertThat(testCartItem.getQuantity()).isEqualTo(4);
+        assertThat(testCartItem.getCart()).isSameAs(testCart);
+        // Neither a second row for (cart, book) nor a delete of the original
+        verify(cartItemRepository).saveAll(List.of());
+        verify(cartItemRepository).deleteAll(List.of());
+        verify(bookRepository, never()).findAllById(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Apply bulk - Unknown book throws exception")
+    void applyBulk_BookNotFound_ThrowsException() {
+        CartBulkRequest request = CartBulkRequest.builder()
+                .operations(List.of(
+                        CartBulkRequest.Operation.builder().op(CartBulkRequest.Type.ADD).bookId(9L).quantity(1).build()))
+                .build();
+
+        when(cartRepository.findByUserId(1L)).thenReturn(Optional.of(testCart));
+        when(bookRepository.findAllById(anyCollection())).thenReturn(List.of());
+
+        assertThatThrownBy(() -> cartService.applyBulk(1L, request))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Apply bulk - Missing quantity throws exception")
+    void applyBulk_MissingQuantity_ThrowsException() {
+        CartBulkRequest request = CartBulkRequest.builder()
+                .operations(List.of(
+                        CartBulkRequest.Operation.builder().op(CartBulkRequest.Type.SET).bookId(1L).build()))
+                .build();
+
+        when(cartRepository.findByUserId(1L)).thenReturn(Optional.of(testCart));
+
+        assertThatThrownBy(() -> cartService.applyBulk(1L, request))
+                .isInstanceOf(BadRequestException.class);
+    }
+
     @Test
     @DisplayName("Clear cart - Success")
     void clearCart_Success() {
@@ -0,0 +1,118 @@
+package kr.ac.jbnu.cr.bookstore.service;
+
+import kr.ac.jbnu.cr.bookstore.exception.StateConflictException;
+import kr.ac.jbnu.cr.bookstore.model.Book;
+import kr.ac.jbnu.cr.bookstore.repository.BookRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(InventoryService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class InventoryServiceConcurrencyTest {
+
+    private static final int INITIAL_STOCK = 250;
+    private static final int CHECKOUTS = 2000;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        bookRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Reserve - Parallel checkouts never oversell")
+    void reserve_ParallelCheckouts_NeverOversell() throws Exception {
+        Book hot = bookRepository.save(book("Hot Title", INITIAL_STOCK));
+        Book other = bookRepository.save(book("Other Title", INITIAL_STOCK * 10));
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < CHECKOUTS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    // Multi-line order: a shortage on the hot title must also roll back the other line
+                    transaction.executeWithoutResult(status ->
+                            inventoryService.reserve(Map.of(other.getId(), 1, hot.getId(), 1)));
+                    succeeded.incrementAndGet();
+                } catch (StateConflictException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        int hotStock = bookRepository.findById(hot.getId()).orElseThrow().getStockQuantity();
+        int otherStock = bookRepository.findById(other.getId()).orElseThrow().getStockQuantity();
+
+        assertThat(succeeded.get()).isEqualTo(INITIAL_STOCK);
+        assertThat(rejected.get()).isEqualTo(CHECKOUTS - INITIAL_STOCK);
+        assertThat(hotStock).isZero();
+        assertThat(otherStock).isEqualTo(INITIAL_STOCK * 10 - succeeded.get());
+    }
+
+    @Test
+    @DisplayName("Release - Cancelled reservation restores stock")
+    void release_RestoresStock() {
+        Book book = bookRepository.save(book("Title", 5));
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        transaction.executeWithoutResult(status -> inventoryService.reserve(Map.of(book.getId(), 3)));
+        transaction.executeWithoutResult(status -> inventoryService.release(Map.of(book.getId(), 3)));
+
+        assertThat(bookRepository.findById(book.getId()).orElseThrow().getStockQuantity()).isEqualTo(5);
+    }
+
+    private Book book(String title, int stock) {
+        return Book.builder()
+                .title(title)
+                .author("Author")
+                .price(BigDecimal.valueOf(10.00))
+                .stockQuantity(stock)
+                .build();
+    }
+}
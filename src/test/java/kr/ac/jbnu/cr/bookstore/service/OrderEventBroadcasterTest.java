@@ -0,0 +1,115 @@
+package kr.ac.jbnu.cr.bookstore.service;
+
+import kr.ac.jbnu.cr.bookstore.model.OrderEventType;
+import kr.ac.jbnu.cr.bookstore.model.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class OrderEventBroadcasterTest {
+
+    private OrderEventBroadcaster broadcaster;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new OrderEventBroadcaster(Duration.ofMinutes(1), Duration.ofMillis(100));
+        mockMvc = MockMvcBuilders.standaloneSetup(new StreamController(broadcaster)).build();
+    }
+
+    @Test
+    @DisplayName("Subscribe order - Receives snapshot then events of that order only")
+    void subscribeOrder_ReceivesOwnEvents() throws Exception {
+        MockHttpServletResponse response = open("/order");
+
+        broadcaster.broadcast(event(2L, OrderEventType.ORDER_STATUS_CHANGED, OrderStatus.SHIPPED));
+        broadcaster.broadcast(event(1L, OrderEventType.ORDER_STATUS_CHANGED, OrderStatus.PAID));
+
+        String body = awaitContent(response, content -> content.contains("\"PAID\""));
+        assertThat(body.indexOf("event:ORDER_STATUS\n")).isLessThan(body.indexOf("event:ORDER_STATUS_CHANGED"));
+        assertThat(body).contains("id:7").doesNotContain("SHIPPED");
+    }
+
+    @Test
+    @DisplayName("Subscribe admin - Receives only new orders")
+    void subscribeAdmin_ReceivesCreatedOnly() throws Exception {
+        MockHttpServletResponse response = open("/admin");
+
+        broadcaster.broadcast(event(3L, OrderEventType.ORDER_STATUS_CHANGED, OrderStatus.PAID));
+        broadcaster.broadcast(event(4L, OrderEventType.ORDER_CREATED, OrderStatus.CREATED));
+
+        String body = awaitContent(response, content -> content.contains("\"orderId\":4"));
+        assertThat(body).contains("event:ORDER_CREATED").doesNotContain("\"orderId\":3");
+    }
+
+    @Test
+    @DisplayName("Subscribe - Idle connections get heartbeat comments")
+    void subscribe_SendsHeartbeat() throws Exception {
+        MockHttpServletResponse response = open("/admin");
+
+        assertThat(awaitContent(response, content -> content.contains(":keepalive"))).isNotEmpty();
+        assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+    }
+
+    private MockHttpServletResponse open(String path) throws Exception {
+        return mockMvc.perform(get(path))
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+    }
+
+    private static String awaitContent(MockHttpServletResponse response, Predicate<String> condition)
+            throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String content = response.getContentAsString();
+        while (!condition.test(content) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = response.getContentAsString();
+        }
+        assertThat(condition.test(content)).as("stream content: %s", content).isTrue();
+        return content;
+    }
+
+    private static OrderEvent event(Long orderId, OrderEventType type, OrderStatus status) {
+        return OrderEvent.builder()
+                .eventId(7L)
+                .type(type)
+                .orderId(orderId)
+                .status(status)
+                .build();
+    }
+
+    @RestController
+    static class StreamController {
+
+        private final OrderEventBroadcaster broadcaster;
+
+        StreamController(OrderEventBroadcaster broadcaster) {
+            this.broadcaster = broadcaster;
+        }
+
+        @GetMapping("/order")
+        SseEmitter order() {
+            return broadcaster.subscribeOrder(1L, Map.of("orderId", 1L, "status", OrderStatus.CREATED));
+        }
+
+        @GetMapping("/admin")
+        SseEmitter admin() {
+            return broadcaster.subscribeAdmin();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package kr.ac.jbnu.cr.bookstore.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import kr.ac.jbnu.cr.bookstore.exception.BadRequestException;
+import kr.ac.jbnu.cr.bookstore.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import(OrderExportService.class)
+class OrderExportServiceTest {
+
+    @Autowired
+    private OrderExportService orderExportService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        User user = persist(User.builder()
+                .email("test@example.com")
+                .username("testuser")
+                .passwordHash("hash")
+                .build());
+        Book plain = persist(Book.builder().title("Plain Title").isbn("111").price(BigDecimal.TEN).build());
+        Book quoted = persist(Book.builder().title("Comma, \"Quote\"").isbn("222").price(BigDecimal.ONE).build());
+
+        Order paid = Order.builder().user(user).status(OrderStatus.PAID).totalAmount(new BigDecimal("21.00")).build();
+        paid.addItem(OrderItem.builder().book(plain).quantity(2).unitPrice(BigDecimal.TEN).build());
+        paid.addItem(OrderItem.builder().book(quoted).quantity(1).unitPrice(BigDecimal.ONE).build());
+        persist(paid);
+
+        Order created = Order.builder().user(user).status(OrderStatus.CREATED).totalAmount(BigDecimal.TEN).build();
+        created.addItem(OrderItem.builder().book(plain).quantity(1).unitPrice(BigDecimal.TEN).build());
+        persist(created);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Export - CSV has one escaped row per order item")
+    void export_Csv_FlattensItems() throws IOException {
+        List<String> lines = lines(export(null, ExportFormat.CSV, false));
+
+        assertThat(lines.get(0)).isEqualTo(String.join(",", OrderExportService.COLUMNS));
+        assertThat(lines).hasSize(4);
+        assertThat(lines.get(1)).contains(",PAID,", "test@example.com", ",Plain Title,2,");
+        assertThat(lines.get(2)).contains("\"Comma, \"\"Quote\"\"\"");
+        assertThat(lines.get(3)).contains(",CREATED,");
+    }
+
+    @Test
+    @DisplayName("Export - Status and range filters apply")
+    void export_Filters() throws IOException {
+        assertThat(lines(export(OrderStatus.CREATED, ExportFormat.CSV, false))).hasSize(2);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        LocalDateTime future = LocalDateTime.now().plusDays(1);
+        orderExportService.export(future, future.plusDays(1), null, ExportFormat.CSV, false, out);
+        assertThat(lines(out.toByteArray())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Export - NDJSON writes one object per line")
+    void export_Ndjson() throws IOException {
+        List<String> lines = lines(export(OrderStatus.PAID, ExportFormat.NDJSON, false));
+
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("status").asText()).isEqualTo("PAID");
+        assertThat(first.get("quantity").asInt()).isEqualTo(2);
+        assertThat(first.get("order_total").decimalValue()).isEqualByComparingTo("21.00");
+        assertThat(objectMapper.readTree(lines.get(1)).get("title").asText()).isEqualTo("Comma, \"Quote\"");
+    }
+
+    @Test
+    @DisplayName("Export - Gzip output decompresses to the same rows")
+    void export_Gzip() throws IOException {
+        byte[] compressed = export(null, ExportFormat.CSV, true);
+
+        byte[] plain;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            plain = in.readAllBytes();
+        }
+        assertThat(plain).isEqualTo(export(null, ExportFormat.CSV, false));
+    }
+
+    @Test
+    @DisplayName("Export - Empty range is rejected")
+    void export_InvalidRange() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThatThrownBy(() -> orderExportService.validateRange(now, now.minusDays(1)))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private byte[] export(OrderStatus status, ExportFormat format, boolean gzip) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        orderExportService.export(null, null, status, format, gzip, out);
+        return out.toByteArray();
+    }
+
+    private static List<String> lines(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8).lines().toList();
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
@@ -0,0 +1,136 @@
+package kr.ac.jbnu.cr.bookstore.service;
+
+import jakarta.persistence.EntityManager;
+import kr.ac.jbnu.cr.bookstore.dto.response.OrderBulkStatusResponse;
+import kr.ac.jbnu.cr.bookstore.dto.response.OrderBulkStatusResponse.Outcome;
+import kr.ac.jbnu.cr.bookstore.model.*;
+import kr.ac.jbnu.cr.bookstore.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({OrderService.class, CartService.class, InventoryService.class, OutboxService.class})
+class OrderServiceBulkStatusTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Book book;
+    private Order created;
+    private Order paid;
+    private Order delivered;
+
+    @BeforeEach
+    void setUp() {
+        User user = persist(User.builder()
+                .email("test@example.com")
+                .username("testuser")
+                .passwordHash("hash")
+                .build());
+        book = persist(Book.builder()
+                .title("Test Book")
+                .price(BigDecimal.TEN)
+                .stockQuantity(10)
+                .build());
+
+        created = persist(order(user, OrderStatus.CREATED, 2));
+        paid = persist(order(user, OrderStatus.PAID, 1));
+        delivered = persist(order(user, OrderStatus.DELIVERED, 1));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Update statuses - Reports an outcome per id and updates valid ones")
+    void updateStatuses_MixedOutcomes() {
+        OrderBulkStatusResponse response = orderService.updateStatuses(
+                List.of(paid.getId(), created.getId(), delivered.getId(), 999L, paid.getId()),
+                OrderStatus.SHIPPED);
+
+        assertThat(response.getUpdated()).isEqualTo(1);
+        assertThat(response.getFailed()).isEqualTo(3);
+        assertThat(response.getResults())
+                .extracting(result -> result.getOrderId() + ":" + result.getOutcome())
+                .containsExactly(
+                        paid.getId() + ":" + Outcome.UPDATED,
+                        created.getId() + ":" + Outcome.INVALID_TRANSITION,
+                        delivered.getId() + ":" + Outcome.INVALID_TRANSITION,
+                        "999:" + Outcome.NOT_FOUND);
+
+        entityManager.clear();
+        assertThat(status(paid)).isEqualTo(OrderStatus.SHIPPED);
+        assertThat(status(created)).isEqualTo(OrderStatus.CREATED);
+        assertThat(outboxEventRepository.findAll()).extracting(OutboxEvent::getAggregateId)
+                .containsExactly(paid.getId());
+    }
+
+    @Test
+    @DisplayName("Update statuses - Cancelling releases the reserved stock")
+    void updateStatuses_Cancel_ReleasesStock() {
+        OrderBulkStatusResponse response = orderService.updateStatuses(
+                List.of(created.getId(), paid.getId()), OrderStatus.CANCELLED);
+
+        assertThat(response.getUpdated()).isEqualTo(2);
+        entityManager.clear();
+        assertThat(status(created)).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(status(paid)).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(entityManager.find(Book.class, book.getId()).getStockQuantity()).isEqualTo(13);
+        assertThat(entityManager.find(Order.class, created.getId()).getStockReserved()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Update statuses - Orders placed before reservations do not restock")
+    void updateStatuses_CancelWithoutReservation_KeepsStock() {
+        Order legacy = order(created.getUser(), OrderStatus.CREATED, 4);
+        legacy.setStockReserved(false);
+        persist(legacy);
+        entityManager.flush();
+        entityManager.clear();
+
+        orderService.updateStatuses(List.of(legacy.getId(), created.getId()), OrderStatus.CANCELLED);
+
+        entityManager.clear();
+        assertThat(status(legacy)).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(entityManager.find(Book.class, book.getId()).getStockQuantity()).isEqualTo(12);
+    }
+
+    private OrderStatus status(Order order) {
+        return entityManager.find(Order.class, order.getId()).getStatus();
+    }
+
+    private Order order(User user, OrderStatus status, int quantity) {
+        Order order = Order.builder()
+                .user(user)
+                .status(status)
+                .stockReserved(true)
+                .totalAmount(BigDecimal.TEN.multiply(BigDecimal.valueOf(quantity)))
+                .build();
+        order.addItem(OrderItem.builder().book(book).quantity(quantity).unitPrice(BigDecimal.TEN).build());
+        return order;
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
@@ -0,0 +1,114 @@
+package kr.ac.jbnu.cr.bookstore.service;
+
+import jakarta.persistence.EntityManager;
+import kr.ac.jbnu.cr.bookstore.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Guards against in-memory pagination of order listings (HHH000104): Hibernate is set
+ * to fail instead of warning, so any paged query that fetches the items collection
+ * breaks these tests.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.query.fail_on_pagination_over_collection_fetch=true")
+@ActiveProfiles("test")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({OrderService.class, CartService.class, InventoryService.class, OutboxService.class})
+class OrderServicePaginationTest {
+
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "id"));
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = persist(User.builder()
+                .email("test@example.com")
+                .username("testuser")
+                .passwordHash("hash")
+                .build());
+        Book book = persist(Book.builder()
+                .title("Test Book")
+                .price(BigDecimal.TEN)
+                .build());
+
+        for (int i = 0; i < 3; i++) {
+            Order order = Order.builder()
+                    .user(user)
+                    .totalAmount(BigDecimal.TEN)
+                    .status(i == 0 ? OrderStatus.PAID : OrderStatus.CREATED)
+                    .build();
+            order.addItem(OrderItem.builder().book(book).quantity(1).unitPrice(BigDecimal.TEN).build());
+            order.addItem(OrderItem.builder().book(book).quantity(2).unitPrice(BigDecimal.TEN).build());
+            persist(order);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Guard - Collection fetch with a limit fails")
+    void guard_IsActive() {
+        assertThatThrownBy(() -> entityManager
+                .createQuery("SELECT o FROM Order o JOIN FETCH o.items", Order.class)
+                .setMaxResults(1)
+                .getResultList())
+                .hasMessageContaining("in-memory pagination");
+    }
+
+    @Test
+    @DisplayName("Find all - Pages ids then fetches graphs in page order")
+    void findAll_PagesWithoutInMemoryPagination() {
+        Page<Order> page = orderService.findAll(FIRST_PAGE);
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getContent().get(0).getId()).isGreaterThan(page.getContent().get(1).getId());
+        assertThat(page.getContent()).allSatisfy(order -> assertThat(order.getItems()).hasSize(2));
+    }
+
+    @Test
+    @DisplayName("Find by status - Pages without in-memory pagination")
+    void findByStatus_PagesWithoutInMemoryPagination() {
+        Page<Order> page = orderService.findByStatus(OrderStatus.CREATED, FIRST_PAGE);
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(Order::getStatus).containsOnly(OrderStatus.CREATED);
+    }
+
+    @Test
+    @DisplayName("Find by user - Pages without in-memory pagination")
+    void findByUserId_PagesWithoutInMemoryPagination() {
+        Page<Order> page = orderService.findByUserId(user.getId(), PageRequest.of(1, 2, Sort.by("id")));
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.getContent().get(0).getUser().getUsername()).isEqualTo("testuser");
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
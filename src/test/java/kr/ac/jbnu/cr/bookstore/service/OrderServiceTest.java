@@ -19,12 +19,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class OrderServiceTest {
@@ -41,6 +43,12 @@ class OrderServiceTest {
     @Mock
     private CartService cartService;
 
+    @Mock
+    private InventoryService inventoryService;
+
+    @Mock
+    private OutboxService outboxService;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -80,6 +88,7 @@ class OrderServiceTest {
                 .user(testUser)
                 .totalAmount(BigDecimal.valueOf(59.98))
                 .status(OrderStatus.CREATED)
+                .stockReserved(true)
                 .items(new ArrayList<>())
                 .build();
     }
@@ -87,7 +96,7 @@ class OrderServiceTest {
     @Test
     @DisplayName("Find by ID - Success")
     void findById_Success() {
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+        when(orderRepository.findWithDetailsById(1L)).thenReturn(Optional.of(testOrder));
 
         Order result = orderService.findById(1L);
 
@@ -98,7 +107,7 @@ class OrderServiceTest {
     @Test
     @DisplayName("Find by ID - Not found throws exception")
     void findById_NotFound_ThrowsException() {
-        when(orderRepository.findById(1L)).thenReturn(Optional.empty());
+        when(orderRepository.findWithDetailsById(1L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> orderService.findById(1L))
                 .isInstanceOf(ResourceNotFoundException.class);
@@ -110,7 +119,7 @@ class OrderServiceTest {
         User otherUser = User.builder().id(2L).build();
         testOrder.setUser(otherUser);
 
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+        when(orderRepository.findWithDetailsById(1L)).thenReturn(Optional.of(testOrder));
 
         assertThatThrownBy(() -> orderService.findByIdForUser(1L, 1L))
                 .isInstanceOf(ForbiddenException.class);
@@ -127,22 +136,77 @@ class OrderServiceTest {
                 .hasMessageContaining("Cart is empty");
     }
 
+    @Test
+    @DisplayName("Create from cart - Reserves stock before saving")
+    void createFromCart_ReservesStock() {
+        when(cartRepository.findByUserId(1L)).thenReturn(Optional.of(testCart));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Order result = orderService.createFromCart(1L);
+
+        assertThat(result.getItems()).hasSize(1);
+        verify(inventoryService).reserve(Map.of(1L, 2));
+        verify(outboxService).orderCreated(result);
+        verify(cartService).clearCart(1L);
+    }
+
+    @Test
+    @DisplayName("Create from cart - Insufficient stock throws exception")
+    void createFromCart_InsufficientStock_ThrowsException() {
+        when(cartRepository.findByUserId(1L)).thenReturn(Optional.of(testCart));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        doThrow(new StateConflictException("Insufficient stock for book with id: 1"))
+                .when(inventoryService).reserve(anyMap());
+
+        assertThatThrownBy(() -> orderService.createFromCart(1L))
+                .isInstanceOf(StateConflictException.class);
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(cartService, never()).clearCart(any());
+    }
+
     @Test
     @DisplayName("Cancel - Success")
     void cancel_Success() {
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+        testOrder.addItem(OrderItem.builder()
+                .book(testBook)
+                .quantity(2)
+                .unitPrice(testBook.getPrice())
+                .build());
+        when(orderRepository.findWithDetailsById(1L)).thenReturn(Optional.of(testOrder));
+        when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
+
+        Order result = orderService.cancel(1L, 1L);
+
+        assertThat(result.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        verify(inventoryService).release(Map.of(1L, 2));
+        verify(outboxService).orderStatusChanged(testOrder, OrderStatus.CREATED);
+        assertThat(result.getStockReserved()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Cancel - Order placed before reservations does not restock")
+    void cancel_WithoutReservation_SkipsRelease() {
+        testOrder.setStockReserved(false);
+        testOrder.addItem(OrderItem.builder()
+                .book(testBook)
+                .quantity(2)
+                .unitPrice(testBook.getPrice())
+                .build());
+        when(orderRepository.findWithDetailsById(1L)).thenReturn(Optional.of(testOrder));
         when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
 
         Order result = orderService.cancel(1L, 1L);
 
         assertThat(result.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        verify(inventoryService, never()).release(anyMap());
     }
 
     @Test
     @DisplayName("Cancel - Already shipped throws exception")
     void cancel_AlreadyShipped_ThrowsException() {
         testOrder.setStatus(OrderStatus.SHIPPED);
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+        when(orderRepository.findWithDetailsById(1L)).thenReturn(Optional.of(testOrder));
 
         assertThatThrownBy(() -> orderService.cancel(1L, 1L))
                 .isInstanceOf(StateConflictException.class);
@@ -152,7 +216,7 @@ class OrderServiceTest {
     @DisplayName("Update status - Invalid transition throws exception")
     void updateStatus_InvalidTransition_ThrowsException() {
         testOrder.setStatus(OrderStatus.DELIVERED);
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+        when(orderRepository.findWithDetailsById(1L)).thenReturn(Optional.of(testOrder));
 
         assertThatThrownBy(() -> orderService.updateStatus(1L, OrderStatus.CREATED))
                 .isInstanceOf(StateConflictException.class);
@@ -0,0 +1,100 @@
+package kr.ac.jbnu.cr.bookstore.service;
+
+import kr.ac.jbnu.cr.bookstore.model.*;
+import kr.ac.jbnu.cr.bookstore.repository.OrderRepository;
+import kr.ac.jbnu.cr.bookstore.repository.OrderSummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderSummaryServiceTest {
+
+    @Mock
+    private OrderSummaryRepository orderSummaryRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @InjectMocks
+    private OrderSummaryService orderSummaryService;
+
+    private Order testOrder;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder().id(1L).username("testuser").build();
+
+        testOrder = Order.builder()
+                .id(10L)
+                .user(user)
+                .totalAmount(BigDecimal.valueOf(79.97))
+                .status(OrderStatus.CREATED)
+                .items(new ArrayList<>())
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        for (int i = 1; i <= 4; i++) {
+            Book book = Book.builder().id((long) i).title("Book " + i).price(BigDecimal.TEN).build();
+            testOrder.addItem(OrderItem.builder().book(book).quantity(i).unitPrice(BigDecimal.TEN).build());
+        }
+    }
+
+    @Test
+    @DisplayName("Handle created - Saves summary with item count and first titles")
+    void handle_Created_SavesSummary() {
+        orderSummaryService.handle(OrderEvent.created(testOrder));
+
+        ArgumentCaptor<OrderSummary> captor = ArgumentCaptor.forClass(OrderSummary.class);
+        verify(orderSummaryRepository).save(captor.capture());
+
+        OrderSummary summary = captor.getValue();
+        assertThat(summary.getOrderId()).isEqualTo(10L);
+        assertThat(summary.getUserId()).isEqualTo(1L);
+        assertThat(summary.getItemCount()).isEqualTo(10);
+        assertThat(summary.getFirstTitles()).isEqualTo("Book 1\nBook 2\nBook 3");
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    @DisplayName("Handle status changed - Updates existing summary")
+    void handle_StatusChanged_UpdatesSummary() {
+        OrderSummary summary = OrderSummaryService.fromOrder(testOrder);
+        when(orderSummaryRepository.findById(10L)).thenReturn(Optional.of(summary));
+
+        testOrder.setStatus(OrderStatus.PAID);
+        orderSummaryService.handle(OrderEvent.statusChanged(testOrder, OrderStatus.CREATED));
+
+        assertThat(summary.getStatus()).isEqualTo(OrderStatus.PAID);
+        verify(orderSummaryRepository).save(summary);
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    @DisplayName("Handle status changed - Rebuilds missing summary from the order")
+    void handle_StatusChanged_MissingSummary_Rebuilds() {
+        testOrder.setStatus(OrderStatus.SHIPPED);
+        when(orderSummaryRepository.findById(10L)).thenReturn(Optional.empty());
+        when(orderRepository.findWithDetailsById(10L)).thenReturn(Optional.of(testOrder));
+
+        orderSummaryService.handle(OrderEvent.statusChanged(testOrder, OrderStatus.PAID));
+
+        ArgumentCaptor<OrderSummary> captor = ArgumentCaptor.forClass(OrderSummary.class);
+        verify(orderSummaryRepository).save(captor.capture());
+        assertThat(captor.getValue().getStatus()).isEqualTo(OrderStatus.SHIPPED);
+        assertThat(captor.getValue().getItemCount()).isEqualTo(10);
+    }
+}
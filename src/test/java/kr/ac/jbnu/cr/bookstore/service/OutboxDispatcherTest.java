@@ -0,0 +1,128 @@
+package kr.ac.jbnu.cr.bookstore.service;
+
+import kr.ac.jbnu.cr.bookstore.model.OrderEventType;
+import kr.ac.jbnu.cr.bookstore.model.OrderStatus;
+import kr.ac.jbnu.cr.bookstore.model.OutboxEvent;
+import kr.ac.jbnu.cr.bookstore.repository.OutboxEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({OutboxService.class, OutboxDispatcher.class, OutboxDispatcherTest.RecordingHandlerConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxDispatcherTest {
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private RecordingHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Dispatch - Delivers events in order per order id")
+    void dispatch_DeliversInOrderPerOrder() {
+        save(1L, OrderEventType.ORDER_CREATED, OrderStatus.CREATED);
+        save(1L, OrderEventType.ORDER_STATUS_CHANGED, OrderStatus.PAID);
+        save(2L, OrderEventType.ORDER_CREATED, OrderStatus.CREATED);
+
+        // Only the oldest pending event of each order is taken per poll
+        assertThat(outboxDispatcher.dispatch()).isEqualTo(2);
+        assertThat(outboxDispatcher.dispatch()).isEqualTo(1);
+        assertThat(outboxDispatcher.dispatch()).isZero();
+
+        assertThat(handler.received).extracting(event -> event.getOrderId() + ":" + event.getStatus())
+                .containsExactly("1:CREATED", "2:CREATED", "1:PAID");
+        assertThat(outboxEventRepository.findAll()).allSatisfy(event ->
+                assertThat(event.getProcessedAt()).isNotNull());
+    }
+
+    @Test
+    @DisplayName("Dispatch - Failed event is retried and blocks later events of the same order")
+    void dispatch_FailureIsRetried() {
+        OutboxEvent first = save(1L, OrderEventType.ORDER_CREATED, OrderStatus.CREATED);
+        save(1L, OrderEventType.ORDER_STATUS_CHANGED, OrderStatus.PAID);
+        handler.failuresLeft.set(1);
+
+        assertThat(outboxDispatcher.dispatch()).isZero();
+
+        OutboxEvent failed = outboxEventRepository.findById(first.getId()).orElseThrow();
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getProcessedAt()).isNull();
+        assertThat(failed.getLastError()).contains("boom");
+
+        assertThat(outboxDispatcher.dispatch()).isEqualTo(1);
+        assertThat(outboxDispatcher.dispatch()).isEqualTo(1);
+        assertThat(handler.received).extracting(OrderEvent::getStatus)
+                .containsExactly(OrderStatus.CREATED, OrderStatus.PAID);
+    }
+
+    private OutboxEvent save(Long orderId, OrderEventType type, OrderStatus status) {
+        String payload = "{\"type\":\"" + type + "\",\"orderId\":" + orderId + ",\"status\":\"" + status + "\"}";
+        return outboxEventRepository.save(OutboxEvent.builder()
+                .aggregateId(orderId)
+                .eventType(type)
+                .payload(payload)
+                .build());
+    }
+
+    static class RecordingHandler implements OrderEventHandler {
+
+        private final List<OrderEvent> received = new ArrayList<>();
+        private final AtomicInteger failuresLeft = new AtomicInteger();
+
+        @Override
+        public void handle(OrderEvent event) {
+            if (failuresLeft.getAndDecrement() > 0) {
+                throw new IllegalStateException("boom");
+            }
+            received.add(event);
+        }
+
+        void reset() {
+            received.clear();
+            failuresLeft.set(0);
+        }
+    }
+
+    @TestConfiguration
+    static class RecordingHandlerConfig {
+
+        @Bean
+        RecordingHandler recordingHandler() {
+            return new RecordingHandler();
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package kr.ac.jbnu.cr.bookstore.service;
+
+import kr.ac.jbnu.cr.bookstore.dto.response.StatsResponse;
+import kr.ac.jbnu.cr.bookstore.dto.response.TimeSeriesResponse;
+import kr.ac.jbnu.cr.bookstore.exception.BadRequestException;
+import kr.ac.jbnu.cr.bookstore.model.OrderEventType;
+import kr.ac.jbnu.cr.bookstore.model.OrderStatus;
+import kr.ac.jbnu.cr.bookstore.model.RollupGranularity;
+import kr.ac.jbnu.cr.bookstore.model.SalesRollup;
+import kr.ac.jbnu.cr.bookstore.repository.SalesRollupRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({SalesRollupService.class, StatsService.class})
+class SalesRollupServiceTest {
+
+    @Autowired
+    private SalesRollupService salesRollupService;
+
+    @Autowired
+    private StatsService statsService;
+
+    @Autowired
+    private SalesRollupRepository salesRollupRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("Handle - Created orders are counted in hour and day buckets")
+    void handle_Created_UpdatesBuckets() {
+        LocalDateTime now = LocalDateTime.now();
+        salesRollupService.handle(created(1L, "10.00", now));
+        salesRollupService.handle(created(2L, "5.50", now));
+        // Counters are bumped with bulk UPDATEs, drop the stale first-insert entities
+        entityManager.clear();
+
+        SalesRollup minute = bucket(RollupGranularity.MINUTE, now);
+        SalesRollup hour = bucket(RollupGranularity.HOUR, now);
+        SalesRollup day = bucket(RollupGranularity.DAY, now);
+        assertThat(minute.getOrderCount()).isEqualTo(2);
+        assertThat(hour.getOrderCount()).isEqualTo(2);
+        assertThat(hour.getRevenue()).isEqualByComparingTo("15.50");
+        assertThat(day.getOrderCount()).isEqualTo(2);
+        assertThat(day.getRevenue()).isEqualByComparingTo("15.50");
+
+        StatsResponse stats = statsService.getSummary();
+        assertThat(stats.getTotalOrders()).isEqualTo(2);
+        assertThat(stats.getPendingOrders()).isEqualTo(2);
+        assertThat(stats.getTodayOrders()).isEqualTo(2);
+        assertThat(stats.getTotalSales()).isEqualByComparingTo("15.50");
+        assertThat(stats.getTodaySales()).isEqualByComparingTo("15.50");
+    }
+
+    @Test
+    @DisplayName("Handle - Status change moves counts and cancellation removes revenue")
+    void handle_StatusChanged_MovesCountsAndRevenue() {
+        LocalDateTime now = LocalDateTime.now();
+        salesRollupService.handle(created(1L, "10.00", now));
+        salesRollupService.handle(created(2L, "20.00", now));
+        salesRollupService.handle(changed(1L, "10.00", now, OrderStatus.CREATED, OrderStatus.PAID));
+        salesRollupService.handle(changed(2L, "20.00", now, OrderStatus.CREATED, OrderStatus.CANCELLED));
+        entityManager.clear();
+
+        SalesRollup day = bucket(RollupGranularity.DAY, now);
+        assertThat(day.getOrderCount()).isEqualTo(2);
+        assertThat(day.getRevenue()).isEqualByComparingTo("10.00");
+
+        StatsResponse stats = statsService.getSummary();
+        assertThat(stats.getTotalOrders()).isEqualTo(1);
+        assertThat(stats.getPendingOrders()).isZero();
+        assertThat(stats.getTotalSales()).isEqualByComparingTo("10.00");
+        assertThat(stats.getTodaySales()).isEqualByComparingTo("10.00");
+    }
+
+    @Test
+    @DisplayName("Get summary - Empty rollups give zero stats")
+    void getSummary_Empty() {
+        StatsResponse stats = statsService.getSummary();
+
+        assertThat(stats.getTotalOrders()).isZero();
+        assertThat(stats.getTodayOrders()).isZero();
+        assertThat(stats.getTotalSales()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(stats.getTodaySales()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("Handle - Old orders skip purged minute buckets")
+    void handle_OldOrder_SkipsPurgedBuckets() {
+        LocalDateTime lastMonth = LocalDateTime.now().minusDays(30);
+        salesRollupService.handle(changed(1L, "10.00", lastMonth, OrderStatus.PAID, OrderStatus.CANCELLED));
+        entityManager.clear();
+
+        assertThat(salesRollupRepository.findByGranularityAndBucketStart(RollupGranularity.MINUTE,
+                RollupGranularity.MINUTE.bucketStart(lastMonth))).isEmpty();
+        assertThat(bucket(RollupGranularity.DAY, lastMonth).getRevenue()).isEqualByComparingTo("-10.00");
+    }
+
+    @Test
+    @DisplayName("Purge - Expired minute buckets are removed, day buckets kept")
+    void purgeExpired_RemovesExpiredTiers() {
+        LocalDateTime old = LocalDateTime.now().minusDays(3);
+        salesRollupRepository.save(rollup(RollupGranularity.MINUTE, old, 1, "1.00"));
+        salesRollupRepository.save(rollup(RollupGranularity.DAY, old, 1, "1.00"));
+
+        salesRollupService.purgeExpired();
+        entityManager.clear();
+
+        assertThat(salesRollupRepository.findAll()).extracting(SalesRollup::getGranularity)
+                .containsExactly(RollupGranularity.DAY);
+    }
+
+    @Test
+    @DisplayName("Time series - Short range uses minute buckets with zero fill")
+    void getTimeSeries_ShortRange_MinuteBuckets() {
+        LocalDateTime start = RollupGranularity.HOUR.bucketStart(LocalDateTime.now().minusHours(2));
+        salesRollupRepository.save(rollup(RollupGranularity.MINUTE, start.plusMinutes(5), 2, "20.00"));
+
+        TimeSeriesResponse series = statsService.getTimeSeries(start, start.plusMinutes(30), null);
+
+        assertThat(series.getGranularity()).isEqualTo(RollupGranularity.MINUTE);
+        assertThat(series.getBucketSeconds()).isEqualTo(60);
+        assertThat(series.getPoints()).hasSize(30);
+        assertThat(series.getPoints().get(5).getOrders()).isEqualTo(2);
+        assertThat(series.getPoints().get(5).getRevenue()).isEqualByComparingTo("20.00");
+        assertThat(series.getPoints().get(6).getOrders()).isZero();
+    }
+
+    @Test
+    @DisplayName("Time series - Range past minute retention falls back to coarser buckets")
+    void getTimeSeries_OldRange_Coarsens() {
+        LocalDateTime start = RollupGranularity.DAY.bucketStart(LocalDateTime.now().minusDays(10));
+
+        TimeSeriesResponse series = statsService.getTimeSeries(start, start.plusHours(6), RollupGranularity.MINUTE);
+
+        assertThat(series.getGranularity()).isEqualTo(RollupGranularity.HOUR);
+        assertThat(series.getPoints()).hasSize(6);
+    }
+
+    @Test
+    @DisplayName("Time series - Multi-year range merges days to stay within the point limit")
+    void getTimeSeries_MultiYear_Downsamples() {
+        LocalDateTime start = LocalDateTime.of(2020, 1, 1, 0, 0);
+        salesRollupRepository.save(rollup(RollupGranularity.DAY, start, 1, "5.00"));
+        salesRollupRepository.save(rollup(RollupGranularity.DAY, start.plusDays(1), 2, "7.00"));
+
+        TimeSeriesResponse series = statsService.getTimeSeries(start, start.plusYears(5), null);
+
+        assertThat(series.getGranularity()).isEqualTo(RollupGranularity.DAY);
+        assertThat(series.getBucketSeconds()).isEqualTo(2 * 86400);
+        assertThat(series.getPoints()).hasSizeLessThanOrEqualTo(StatsService.MAX_POINTS);
+        assertThat(series.getPoints().get(0).getOrders()).isEqualTo(3);
+        assertThat(series.getPoints().get(0).getRevenue()).isEqualByComparingTo("12.00");
+    }
+
+    @Test
+    @DisplayName("Time series - Empty range is rejected")
+    void getTimeSeries_InvalidRange() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThatThrownBy(() -> statsService.getTimeSeries(now, now, null))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private SalesRollup rollup(RollupGranularity granularity, LocalDateTime time, long orders, String revenue) {
+        return SalesRollup.builder()
+                .granularity(granularity)
+                .bucketStart(granularity.bucketStart(time))
+                .orderCount(orders)
+                .revenue(new BigDecimal(revenue))
+                .build();
+    }
+
+    private SalesRollup bucket(RollupGranularity granularity, LocalDateTime time) {
+        return salesRollupRepository.findByGranularityAndBucketStart(granularity, granularity.bucketStart(time))
+                .orElseThrow();
+    }
+
+    private OrderEvent created(Long orderId, String amount, LocalDateTime createdAt) {
+        return OrderEvent.builder()
+                .type(OrderEventType.ORDER_CREATED)
+                .orderId(orderId)
+                .status(OrderStatus.CREATED)
+                .totalAmount(new BigDecimal(amount))
+                .orderCreatedAt(createdAt)
+                .build();
+    }
+
+    private OrderEvent changed(Long orderId, String amount, LocalDateTime createdAt,
+                               OrderStatus previous, OrderStatus next) {
+        return OrderEvent.builder()
+                .type(OrderEventType.ORDER_STATUS_CHANGED)
+                .orderId(orderId)
+                .status(next)
+                .previousStatus(previous)
+                .totalAmount(new BigDecimal(amount))
+                .orderCreatedAt(createdAt)
+                .build();
+    }
+}